@@ -1,59 +1,108 @@
 package com.learning.blog.config;
 
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.security.UserPrincipalCache;
 import com.learning.blog.service.impl.JwtService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   UserPrincipalCache userPrincipalCache,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.authenticatedTimer = meterRegistry.timer("auth.jwt.filter", "result", "authenticated");
+        this.rejectedTimer = meterRegistry.timer("auth.jwt.filter", "result", "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         final String authorizationHeader = request.getHeader("Authorization");
-        final String jwtToken;
-        final String email;
 
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwtToken = authorizationHeader.substring(7);
-        email = jwtService.extractUsername(jwtToken);
-
-        if(email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-            if(jwtService.isTokenValid(jwtToken, userDetails)) {
-                SecurityContext context = SecurityContextHolder.createEmptyContext();
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                context.setAuthentication(authToken);
-                SecurityContextHolder.setContext(context);
-            }
+        // Only the token check is timed; the rest of the chain is covered by http.server.requests
+        long start = System.nanoTime();
+        boolean authenticated = false;
+        try {
+            authenticated = authenticate(request, authorizationHeader.substring(7));
+        } finally {
+            (authenticated ? authenticatedTimer : rejectedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
         filterChain.doFilter(request, response);
     }
+
+    private boolean authenticate(HttpServletRequest request, String jwtToken) {
+        final Claims claims = jwtService.parseClaims(jwtToken);
+        final String email = claims.getSubject();
+
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return true;
+        }
+        if (email == null) {
+            return false;
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = userPrincipalCache.get(
+                    email,
+                    claims.getIssuedAt(),
+                    userDetailsService::loadUserByUsername
+            );
+        } catch (UsernameNotFoundException e) {
+            // The account was deleted while the token was still valid
+            return false;
+        }
+
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return false;
+        }
+        // Tokens outlive the account state they were issued for; a user being deleted is disabled first
+        if (userDetails instanceof BlogUserDetails blogUserDetails && !blogUserDetails.getUser().isEnabled()) {
+            return false;
+        }
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        context.setAuthentication(authToken);
+        SecurityContextHolder.setContext(context);
+        return true;
+    }
 }
@@ -1,8 +1,14 @@
 package com.learning.blog.config;
 
+import com.learning.blog.security.BoundedPasswordEncoder;
+import com.learning.blog.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -20,11 +26,15 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, Environment environment) throws Exception {
 
         http.
                 authorizeHttpRequests(req -> req
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers(request -> isPrometheusScrape(request, environment)).permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
+                        .requestMatchers("/api/v1/admin/**").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
@@ -39,13 +49,27 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // The scrape carries no token, so it is only let through on the management port, which is not routed publicly
+    private static boolean isPrometheusScrape(HttpServletRequest request, Environment environment) {
+        return "/actuator/prometheus".equals(request.getServletPath())
+                && String.valueOf(request.getLocalPort()).equals(environment.getProperty("local.management.port"));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.retry-after:1}") long retryAfterSeconds) {
+        // One core is left to the rest of the application unless a pool size is configured
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        PasswordEncoder timed = new TimedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(), meterRegistry);
+        return new BoundedPasswordEncoder(timed, poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 }
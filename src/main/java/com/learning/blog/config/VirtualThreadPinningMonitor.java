@@ -0,0 +1,100 @@
+package com.learning.blog.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Streams JFR's pinning and virtual thread monitor contention events into Micrometer timers, and logs the first
+// application frame of each distinct pinning site once, so a synchronized block or native call that holds a carrier
+// thread shows up without attaching a profiler.
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+    private static final int MAX_REPORTED_SITES = 100;
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Timer monitorEnter;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${diagnostics.pinning.threshold:20}") long thresholdInMs,
+            MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdInMs);
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .register(meterRegistry);
+        this.monitorEnter = Timer.builder("jvm.monitor.contended")
+                .description("Time virtual threads spent blocked entering a contended monitor")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.enable(MONITOR_ENTER_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> {
+            pinned.record(event.getDuration());
+            reportSite("pinned a virtual thread", event);
+        });
+        stream.onEvent(MONITOR_ENTER_EVENT, event -> {
+            // Platform threads such as Hikari's housekeeper or Tomcat's acceptor contend too, but pin nothing
+            if (!event.getThread("eventThread").isVirtual()) {
+                return;
+            }
+            monitorEnter.record(event.getDuration());
+            reportSite("blocked on a contended monitor", event);
+        });
+        stream.startAsync();
+        recordingStream = stream;
+    }
+
+    private void reportSite(String what, RecordedEvent event) {
+        if (event.getStackTrace() == null || reportedSites.size() >= MAX_REPORTED_SITES) {
+            return;
+        }
+        String site = event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .filter(frame -> frame.startsWith("com.learning.blog."))
+                .findFirst()
+                .orElseGet(() -> event.getStackTrace().getFrames().isEmpty()
+                        ? "unknown"
+                        : event.getStackTrace().getFrames().getFirst().getMethod().getType().getName());
+        if (reportedSites.add(what + site)) {
+            log.warn("{} for {} ms at {}", what, event.getDuration().toMillis(), site);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.dtos.PostImportReport;
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.service.PostImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/admin/posts")
+@RequiredArgsConstructor
+public class AdminPostController {
+
+    private final PostImportService postImportService;
+
+    // The body is read straight from the request stream, so imports of any size are never buffered in memory
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostImportReport> importPosts(
+            InputStream body,
+            @AuthenticationPrincipal BlogUserDetails principal) throws IOException {
+
+        PostImportReport report = postImportService.importPosts(body, principal.getUser().getId());
+
+        return ResponseEntity.ok(report);
+    }
+}
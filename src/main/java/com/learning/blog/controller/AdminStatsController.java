@@ -0,0 +1,28 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.dtos.ContentCounts;
+import com.learning.blog.model.enums.CountMode;
+import com.learning.blog.service.CountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final CountService countService;
+
+    @GetMapping("/counts")
+    public ResponseEntity<ContentCounts> getContentCounts(@RequestParam(defaultValue = "exact") String mode) {
+        ContentCounts counts = countService.getContentCounts(CountMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)));
+
+        return ResponseEntity.ok(counts);
+    }
+}
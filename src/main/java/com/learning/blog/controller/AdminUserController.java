@@ -0,0 +1,66 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.SlicePage;
+import com.learning.blog.model.dtos.UserDeletionJobDto;
+import com.learning.blog.model.dtos.UserResponse;
+import com.learning.blog.service.UserDeletionService;
+import com.learning.blog.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserService userService;
+    private final UserDeletionService userDeletionService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<UserResponse>> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<UserResponse> users = userService.getUsers(role, enabled, cursor, size);
+
+        return ResponseEntity.ok(users);
+    }
+
+    // Numbered pages for jumping ahead; cheaper than a Page as no total is counted, but deep pages still pay
+    // for the OFFSET, so the cursor listing above is the one to walk the whole table with
+    @GetMapping(params = "page")
+    public ResponseEntity<SlicePage<UserResponse>> getUserSlice(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        SlicePage<UserResponse> users = userService.getUserSlice(role, enabled, page, size);
+
+        return ResponseEntity.ok(users);
+    }
+
+    // Deleting a user with many posts takes a while, so it runs as a background job that can be polled
+    @DeleteMapping("/{id}")
+    public ResponseEntity<UserDeletionJobDto> deleteUser(@PathVariable UUID id) {
+        UserDeletionJobDto job = userService.deleteUser(id);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/users/deletions/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<UserDeletionJobDto> getDeletionJob(@PathVariable UUID jobId) {
+        UserDeletionJobDto job = userDeletionService.getJob(jobId);
+
+        return ResponseEntity.ok(job);
+    }
+}
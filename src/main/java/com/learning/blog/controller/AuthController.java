@@ -1,7 +1,9 @@
 package com.learning.blog.controller;
 
 import com.learning.blog.model.dtos.*;
+import com.learning.blog.security.LoginRateLimiter;
 import com.learning.blog.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthenticationService authenticationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(
@@ -44,8 +47,11 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
 
+        // The client address, resolved from X-Forwarded-For of a trusted proxy (server.forward-headers-strategy)
+        loginRateLimiter.acquire(loginRequest.getEmail(), request.getRemoteAddr());
         AuthResponse authResponse = authenticationService.login(loginRequest);
 
         return ResponseEntity.ok(authResponse);
@@ -3,15 +3,17 @@ package com.learning.blog.controller;
 import com.learning.blog.mapper.CategoryMapper;
 import com.learning.blog.model.Category;
 import com.learning.blog.model.dtos.CategoryDto;
+import com.learning.blog.model.dtos.CategoryListing;
 import com.learning.blog.model.dtos.CreateCategoryRequest;
 import com.learning.blog.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,14 +23,16 @@ public class CategoryController {
     private final CategoryService categoryService;
     private final CategoryMapper categoryMapper;
 
+    // Spring answers If-None-Match with 304 and no body when it matches the ETag set here
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        List<CategoryDto> categories = categoryService.getAllWithPostCount()
-                .stream()
-                .map(categoryMapper::toDto)
-                .toList();
-
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories() {
+        CategoryListing listing = categoryService.getCategoryListing();
+
+        return ResponseEntity.ok()
+                .eTag(listing.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(listing.json());
     }
 
     @PostMapping
@@ -1,9 +1,14 @@
 package com.learning.blog.controller;
 
 import com.learning.blog.exception.ResourceNotFoundException;
+import com.learning.blog.exception.ServiceUnavailableException;
+import com.learning.blog.exception.TooManyRequestsException;
 import com.learning.blog.model.dtos.ApiErrorResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -39,6 +44,16 @@ public class ErrorController {
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    // A write that lost a race on a unique constraint; the request conflicts with data that now exists
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        ApiErrorResponse error = ApiErrorResponse.builder().
+                status(HttpStatus.CONFLICT.value()).
+                message("The request conflicts with existing data").
+                build();
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiErrorResponse> handleBadCredentialsException(BadCredentialsException e) {
         ApiErrorResponse error = ApiErrorResponse.builder().
@@ -48,6 +63,15 @@ public class ErrorController {
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        ApiErrorResponse error = ApiErrorResponse.builder().
+                status(HttpStatus.FORBIDDEN.value()).
+                message(e.getMessage()).
+                build();
+        return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleResourceNotFoundException(ResourceNotFoundException e) {
         ApiErrorResponse error = ApiErrorResponse.builder().
@@ -56,4 +80,26 @@ public class ErrorController {
                 build();
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        ApiErrorResponse error = ApiErrorResponse.builder().
+                status(HttpStatus.TOO_MANY_REQUESTS.value()).
+                message(e.getMessage()).
+                build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        ApiErrorResponse error = ApiErrorResponse.builder().
+                status(HttpStatus.SERVICE_UNAVAILABLE.value()).
+                message(e.getMessage()).
+                build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
 }
@@ -0,0 +1,85 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.dtos.CreatePostRequest;
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.PostDto;
+import com.learning.blog.model.dtos.PostSearchResultDto;
+import com.learning.blog.model.dtos.PostSummaryDto;
+import com.learning.blog.model.dtos.UpdatePostRequest;
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.service.PostService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/posts")
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<PostSummaryDto>> getPublishedPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<PostSummaryDto> feed = postService.getPublishedFeed(cursor, size);
+
+        return ResponseEntity.ok(feed);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<PostSearchResultDto>> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPage<PostSearchResultDto> results = postService.searchPublishedPosts(query, cursor, size);
+
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PostDto> getPost(@PathVariable UUID id) {
+        PostDto post = postService.getPublishedPost(id);
+
+        return ResponseEntity.ok(post);
+    }
+
+    @PostMapping
+    public ResponseEntity<PostDto> createPost(
+            @Valid @RequestBody CreatePostRequest createPostRequest,
+            @AuthenticationPrincipal BlogUserDetails principal) {
+
+        PostDto post = postService.createPost(createPostRequest, principal.getUser().getId());
+
+        return new ResponseEntity<>(post, HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<PostDto> updatePost(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdatePostRequest updatePostRequest,
+            @AuthenticationPrincipal BlogUserDetails principal) {
+
+        PostDto post = postService.updatePost(id, updatePostRequest, principal.getUser().getId());
+
+        return ResponseEntity.ok(post);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletePost(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal BlogUserDetails principal) {
+
+        postService.deletePost(id, principal.getUser().getId());
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
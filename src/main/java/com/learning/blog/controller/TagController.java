@@ -0,0 +1,42 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.dtos.PopularTagDto;
+import com.learning.blog.model.dtos.TagSuggestionDto;
+import com.learning.blog.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TagSuggestionDto>> suggestTags(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<TagSuggestionDto> suggestions = tagService.suggestTags(prefix, limit);
+
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularTagDto>> getPopularTags(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        List<PopularTagDto> popularTags = tagService.getPopularTags(categoryId, limit);
+
+        return ResponseEntity.ok(popularTags);
+    }
+}
@@ -0,0 +1,6 @@
+package com.learning.blog.event;
+
+import java.util.UUID;
+
+public record CategoryChangedEvent(UUID categoryId) {
+}
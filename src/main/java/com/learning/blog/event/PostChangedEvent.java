@@ -0,0 +1,32 @@
+package com.learning.blog.event;
+
+import java.util.Objects;
+
+// before is null for a created post and after is null for a deleted one
+public record PostChangedEvent(PostSnapshot before, PostSnapshot after) {
+
+    public static PostChangedEvent created(PostSnapshot after) {
+        return new PostChangedEvent(null, after);
+    }
+
+    public static PostChangedEvent deleted(PostSnapshot before) {
+        return new PostChangedEvent(before, null);
+    }
+
+    public boolean wasPublished() {
+        return before != null && before.isPublished();
+    }
+
+    public boolean isPublished() {
+        return after != null && after.isPublished();
+    }
+
+    public boolean publicationChanged() {
+        return wasPublished() != isPublished();
+    }
+
+    public boolean changesPublishedCategoryCounts() {
+        return publicationChanged()
+                || (isPublished() && !Objects.equals(before.categoryId(), after.categoryId()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.learning.blog.event;
+
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.enums.PostStatus;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public record PostSnapshot(UUID id, UUID categoryId, PostStatus status, Set<String> tagNames) {
+
+    public static PostSnapshot of(Post post) {
+        Set<String> tagNames = post.getTags() == null
+                ? Set.of()
+                : post.getTags().stream().map(Tag::getName).collect(Collectors.toUnmodifiableSet());
+        UUID categoryId = post.getCategory() == null ? null : post.getCategory().getId();
+        return new PostSnapshot(post.getId(), categoryId, post.getStatus(), tagNames);
+    }
+
+    public boolean isPublished() {
+        return status == PostStatus.PUBLISHED;
+    }
+}
@@ -0,0 +1,6 @@
+package com.learning.blog.event;
+
+// Published after posts were inserted or deleted in bulk (imports, user deletion); those statements bypass JPA,
+// so no PostChangedEvent exists for them and listeners resynchronise instead
+public record PostsBulkChangedEvent(long posts) {
+}
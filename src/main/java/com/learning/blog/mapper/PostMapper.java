@@ -0,0 +1,29 @@
+package com.learning.blog.mapper;
+
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.dtos.PostDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PostMapper {
+
+    @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "authorName", source = "author.name")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    PostDto toDto(Post post);
+
+    default Set<String> toTagNames(Set<Tag> tags) {
+        Set<String> names = new TreeSet<>();
+        if (tags != null) {
+            tags.forEach(tag -> names.add(tag.getName()));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,84 @@
+package com.learning.blog.model;
+
+import com.learning.blog.util.IdGenerator;
+import com.learning.blog.util.UuidV7Generator;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Transient;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// Identity is the UUID alone. It is assigned on first use (equals/hashCode or persist) and never changes afterwards,
+// so entities can sit in hash-based collections before they are saved and hashing never touches their content.
+@MappedSuperclass
+public abstract class BaseEntity implements Persistable<UUID> {
+
+    private static volatile IdGenerator idGenerator = new UuidV7Generator();
+
+    @Transient
+    private boolean isNew = true;
+
+    // Time-ordered UUIDv7 by default; swappable for benchmarks or tests that need deterministic ids
+    public static void useIdGenerator(IdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator);
+    }
+
+    // For rows written outside JPA, such as bulk imports, so they get the same kind of id as entities
+    public static UUID generateId() {
+        return idGenerator.generate();
+    }
+
+    @Override
+    public abstract UUID getId();
+
+    public abstract void setId(UUID id);
+
+    // Ids are assigned by the application, so Spring Data needs to be told when to persist rather than merge
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PrePersist
+    void assignIdentity() {
+        identity();
+        isNew = false;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        isNew = false;
+    }
+
+    private UUID identity() {
+        UUID id = getId();
+        if (id == null) {
+            id = generateId();
+            setId(id);
+        }
+        return id;
+    }
+
+    // Final and going through the accessors so uninitialized Hibernate proxies compare by id without being loaded
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BaseEntity other) || effectiveClass(this) != effectiveClass(other)) return false;
+        return identity().equals(other.identity());
+    }
+
+    @Override
+    public final int hashCode() {
+        return identity().hashCode();
+    }
+
+    private static Class<?> effectiveClass(Object entity) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : entity.getClass();
+    }
+}
@@ -3,23 +3,25 @@ package com.learning.blog.model;
 import com.learning.blog.model.enums.PostStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_created_at_id", columnList = "status, created_at, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 @Builder
-public class Post {
+public class Post extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
@@ -35,6 +37,15 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int wordCount;
+
+    // Maintained by PostViewCounter with relative updates; writing an entity back must not overwrite them
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long viewCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -43,12 +54,17 @@ public class Post {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    // Deleting a post removes its tag links in the same statement, which bulk deletes rely on (see V7)
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
             name = "post_tags",
-            joinColumns = @JoinColumn(name = "post_id"),
+            joinColumns = @JoinColumn(name = "post_id", foreignKey = @ForeignKey(
+                    name = "fk_post_tags_post",
+                    foreignKeyDefinition = "FOREIGN KEY (post_id) REFERENCES posts ON DELETE CASCADE")),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
     )
+    @Builder.Default
     private Set<Tag> tags = new HashSet<>();
 
     @Column(nullable = false)
@@ -68,17 +84,4 @@ public class Post {
     public void onUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
-
-    @Override
-    public boolean equals(Object o) {
-
-        if (o == null || getClass() != o.getClass()) return false;
-        Post post = (Post) o;
-        return Objects.equals(id, post.id) && Objects.equals(title, post.title) && Objects.equals(content, post.content) && status == post.status && Objects.equals(readingTime, post.readingTime) && Objects.equals(createdAt, post.createdAt) && Objects.equals(updatedAt, post.updatedAt);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(id, title, content, status, readingTime, createdAt, updatedAt);
-    }
 }
@@ -4,7 +4,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -15,9 +14,8 @@ import java.util.UUID;
 @Getter
 @Setter
 @Builder
-public class Tag {
+public class Tag extends BaseEntity {
     @Id
-    @GeneratedValue(strategy =  GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -25,17 +23,4 @@ public class Tag {
 
     @ManyToMany(mappedBy = "tags")
     private Set<Post> posts = new HashSet<>();
-
-    @Override
-    public boolean equals(Object o) {
-
-        if (o == null || getClass() != o.getClass()) return false;
-        Tag tag = (Tag) o;
-        return Objects.equals(id, tag.id) && Objects.equals(name, tag.name);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(id, name);
-    }
 }
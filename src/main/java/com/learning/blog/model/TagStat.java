@@ -0,0 +1,19 @@
+package com.learning.blog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "tag_stats")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TagStat {
+    @EmbeddedId
+    private TagStatId id;
+
+    @Column(nullable = false)
+    private long postCount;
+}
@@ -0,0 +1,22 @@
+package com.learning.blog.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagStatId implements Serializable {
+    @Column(name = "tag_id", nullable = false)
+    private UUID tagId;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+}
@@ -0,0 +1,43 @@
+package com.learning.blog.model;
+
+import com.learning.blog.model.enums.DeletionJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// No foreign key to users: the job outlives the user it deletes
+@Entity
+@Table(name = "user_deletion_jobs")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UserDeletionJob extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DeletionJobStatus status;
+
+    @Column(nullable = false)
+    private long postsDeleted;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Touched after every batch; a RUNNING job that stops being touched was abandoned and is picked up again
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
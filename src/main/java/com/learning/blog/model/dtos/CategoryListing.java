@@ -0,0 +1,7 @@
+package com.learning.blog.model.dtos;
+
+import java.util.List;
+
+// The category listing together with its pre-serialized JSON body and strong ETag
+public record CategoryListing(List<CategoryDto> categories, byte[] json, String etag) {
+}
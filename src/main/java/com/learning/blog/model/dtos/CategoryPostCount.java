@@ -0,0 +1,6 @@
+package com.learning.blog.model.dtos;
+
+import java.util.UUID;
+
+public record CategoryPostCount(UUID categoryId, long count) {
+}
@@ -0,0 +1,22 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.CountMode;
+import com.learning.blog.model.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentCounts {
+    private CountMode mode;
+    private long users;
+    private Map<PostStatus, Long> postsByStatus;
+    private Map<UUID, Long> postsByCategory;
+}
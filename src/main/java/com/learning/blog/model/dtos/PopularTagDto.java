@@ -0,0 +1,15 @@
+package com.learning.blog.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PopularTagDto {
+    private String name;
+    private long postCount;
+}
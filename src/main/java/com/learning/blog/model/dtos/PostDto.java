@@ -0,0 +1,32 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDto {
+    private UUID id;
+    private String title;
+    private String content;
+    private PostStatus status;
+    private Integer readingTime;
+    private int wordCount;
+    private long viewCount;
+    private UUID authorId;
+    private String authorName;
+    private UUID categoryId;
+    private String categoryName;
+    private Set<String> tags;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
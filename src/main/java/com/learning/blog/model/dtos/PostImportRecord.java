@@ -0,0 +1,41 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.PostStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// One line of an NDJSON import; categories and tags are referenced by name and created when missing
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostImportRecord {
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be at most {max} characters")
+    private String title;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    @NotBlank(message = "Category is required")
+    @Size(max = 255, message = "Category must be at most {max} characters")
+    private String category;
+
+    @Size(max = 10, message = "A post can have at most {max} tags")
+    @Builder.Default
+    private Set<String> tags = new HashSet<>();
+
+    @Builder.Default
+    private PostStatus status = PostStatus.DRAFT;
+
+    // Keeps the original publication date of migrated content; defaults to the import time
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.learning.blog.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostImportReport {
+    private long imported;
+    private long rejected;
+    private long elapsedMs;
+    // False when the body could not be parsed to the end; chunks before that point are still committed
+    private boolean completed;
+
+    @Builder.Default
+    private List<ChunkStats> chunks = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> errors = new ArrayList<>();
+
+    public record ChunkStats(int chunk, int rows, long elapsedMs, long rowsPerSecond) {
+    }
+}
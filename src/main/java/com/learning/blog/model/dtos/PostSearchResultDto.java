@@ -0,0 +1,26 @@
+package com.learning.blog.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchResultDto {
+    private UUID id;
+    private String title;
+    private String authorName;
+    private String categoryName;
+    private Set<String> tags;
+    private Integer readingTime;
+    private LocalDateTime createdAt;
+    private String snippet;
+    private float rank;
+}
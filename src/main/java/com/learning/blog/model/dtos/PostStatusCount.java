@@ -0,0 +1,6 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.PostStatus;
+
+public record PostStatusCount(PostStatus status, long count) {
+}
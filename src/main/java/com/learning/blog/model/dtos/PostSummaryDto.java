@@ -0,0 +1,30 @@
+package com.learning.blog.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSummaryDto {
+    private UUID id;
+    private String title;
+    private String authorName;
+    private String categoryName;
+    private Set<String> tags;
+    private Integer readingTime;
+    private LocalDateTime createdAt;
+
+    // Used by JPQL constructor projections; tags are loaded separately for the whole page
+    public PostSummaryDto(UUID id, String title, String authorName, String categoryName,
+                          Integer readingTime, LocalDateTime createdAt) {
+        this(id, title, authorName, categoryName, Set.of(), readingTime, createdAt);
+    }
+}
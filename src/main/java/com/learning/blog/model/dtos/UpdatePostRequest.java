@@ -0,0 +1,37 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.PostStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdatePostRequest {
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be at most {max} characters")
+    private String title;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    @NotNull(message = "Category is required")
+    private UUID categoryId;
+
+    @Size(max = 10, message = "A post can have at most {max} tags")
+    @Builder.Default
+    private Set<String> tags = new HashSet<>();
+
+    @NotNull(message = "Status is required")
+    private PostStatus status;
+}
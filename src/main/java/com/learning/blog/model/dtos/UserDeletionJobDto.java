@@ -0,0 +1,25 @@
+package com.learning.blog.model.dtos;
+
+import com.learning.blog.model.enums.DeletionJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDeletionJobDto {
+    private UUID id;
+    private UUID userId;
+    private DeletionJobStatus status;
+    private long postsDeleted;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
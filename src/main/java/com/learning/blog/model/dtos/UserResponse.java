@@ -17,4 +17,7 @@ public class UserResponse {
     private UUID id;
     private String name;
     private String email;
+    private UserRole role;
+    private boolean enabled;
+    private LocalDateTime createdAt;
 }
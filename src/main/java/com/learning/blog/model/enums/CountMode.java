@@ -0,0 +1,5 @@
+package com.learning.blog.model.enums;
+
+public enum CountMode {
+    EXACT, APPROXIMATE
+}
@@ -0,0 +1,8 @@
+package com.learning.blog.model.enums;
+
+public enum DeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.learning.blog.model.enums;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
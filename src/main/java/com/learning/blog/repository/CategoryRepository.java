@@ -1,7 +1,9 @@
 package com.learning.blog.repository;
 
 import com.learning.blog.model.Category;
+import com.learning.blog.model.dtos.CategoryDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -11,8 +13,21 @@ import java.util.UUID;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
-    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.posts")
-    List<Category> findAllWithPostCount();
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.CategoryDto(c.id, c.name, COUNT(p.id))
+            FROM Category c
+            LEFT JOIN c.posts p ON p.status = com.learning.blog.model.enums.PostStatus.PUBLISHED
+            GROUP BY c.id, c.name
+            ORDER BY c.name
+            """)
+    List<CategoryDto> findAllWithPostCount();
 
-    boolean existsByNameIgnoreCase(String name);
+    // Returns 0 when the name is taken in any case, which the unique index on upper(name) decides
+    @Modifying
+    @Query(value = "INSERT INTO categories (id, name) VALUES (:id, :name) ON CONFLICT ((upper(name))) DO NOTHING",
+            nativeQuery = true)
+    int insertIfNameAbsent(UUID id, String name);
+
+    @Query("SELECT c.id FROM Category c")
+    List<UUID> findAllIds();
 }
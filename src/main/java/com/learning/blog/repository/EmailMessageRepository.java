@@ -0,0 +1,27 @@
+package com.learning.blog.repository;
+
+import com.learning.blog.model.EmailMessage;
+import com.learning.blog.model.enums.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailMessageRepository extends JpaRepository<EmailMessage, UUID> {
+
+    // lock.timeout -2 is Hibernate's SKIP LOCKED, so several instances can drain the outbox side by side
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailMessage m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<EmailMessage> findDueForDispatch(EmailStatus status, LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM EmailMessage m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(EmailStatus status, LocalDateTime before);
+}
@@ -1,11 +1,114 @@
 package com.learning.blog.repository;
 
 import com.learning.blog.model.Post;
+import com.learning.blog.model.dtos.CategoryPostCount;
+import com.learning.blog.model.dtos.PostStatusCount;
+import com.learning.blog.model.dtos.PostSummaryDto;
+import com.learning.blog.model.dtos.PostTagName;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.repository.projection.PostSearchRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, UUID> {
+
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    Optional<Post> findByIdAndStatus(UUID id, PostStatus status);
+
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.PostSummaryDto(p.id, p.title, a.name, c.name, p.readingTime, p.createdAt)
+            FROM Post p
+            JOIN p.author a
+            JOIN p.category c
+            WHERE p.status = :status
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findFeed(PostStatus status, Limit limit);
+
+    // Seek past the last row of the previous page instead of OFFSET, served by idx_posts_status_created_at_id
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.PostSummaryDto(p.id, p.title, a.name, c.name, p.readingTime, p.createdAt)
+            FROM Post p
+            JOIN p.author a
+            JOIN p.category c
+            WHERE p.status = :status
+            AND (p.createdAt, p.id) < (:createdAt, :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummaryDto> findFeedAfter(PostStatus status, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query("SELECT new com.learning.blog.model.dtos.PostTagName(p.id, t.name) FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagName> findTagNames(Collection<UUID> postIds);
+
+    // Ranks inside the inner query so ts_headline only runs for the rows of the returned page;
+    // highlighting is limited to the first 100k characters of the content.
+    @Query(value = """
+            SELECT page.id AS "id", page.title AS "title", u.name AS "authorName", c.name AS "categoryName",
+                   page.reading_time AS "readingTime", page.created_at AS "createdAt", page.rank AS "rank",
+                   ts_headline('english', left(page.content, 100000), websearch_to_tsquery('english', :query),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS "snippet"
+            FROM (
+                SELECT p.id, p.title, p.content, p.reading_time, p.created_at, p.author_id, p.category_id,
+                       ts_rank(p.search_vector, websearch_to_tsquery('english', :query)) AS rank
+                FROM posts p
+                WHERE p.status = 'PUBLISHED'
+                AND p.search_vector @@ websearch_to_tsquery('english', :query)
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit
+            ) page
+            JOIN users u ON u.id = page.author_id
+            JOIN categories c ON c.id = page.category_id
+            ORDER BY page.rank DESC, page.id DESC
+            """, nativeQuery = true)
+    List<PostSearchRow> search(String query, int limit);
+
+    @Query(value = """
+            SELECT page.id AS "id", page.title AS "title", u.name AS "authorName", c.name AS "categoryName",
+                   page.reading_time AS "readingTime", page.created_at AS "createdAt", page.rank AS "rank",
+                   ts_headline('english', left(page.content, 100000), websearch_to_tsquery('english', :query),
+                               'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS "snippet"
+            FROM (
+                SELECT p.id, p.title, p.content, p.reading_time, p.created_at, p.author_id, p.category_id,
+                       ts_rank(p.search_vector, websearch_to_tsquery('english', :query)) AS rank
+                FROM posts p
+                WHERE p.status = 'PUBLISHED'
+                AND p.search_vector @@ websearch_to_tsquery('english', :query)
+                AND (ts_rank(p.search_vector, websearch_to_tsquery('english', :query)), p.id) < (CAST(:rank AS real), :id)
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit
+            ) page
+            JOIN users u ON u.id = page.author_id
+            JOIN categories c ON c.id = page.category_id
+            ORDER BY page.rank DESC, page.id DESC
+            """, nativeQuery = true)
+    List<PostSearchRow> searchAfter(String query, float rank, UUID id, int limit);
+
+    @Query("SELECT new com.learning.blog.model.dtos.PostStatusCount(p.status, COUNT(p)) FROM Post p GROUP BY p.status")
+    List<PostStatusCount> countByStatus();
+
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.CategoryPostCount(p.category.id, COUNT(p))
+            FROM Post p
+            GROUP BY p.category.id
+            """)
+    List<CategoryPostCount> countByCategory();
+
+    @Query("SELECT p.id FROM Post p WHERE p.author.id = :authorId")
+    List<UUID> findIdsByAuthorId(UUID authorId, Limit limit);
+
+    // Bypasses the persistence context; the tag links go with the posts through ON DELETE CASCADE
+    @Modifying
+    @Query(value = "DELETE FROM posts WHERE id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdInBulk(Collection<UUID> ids);
 }
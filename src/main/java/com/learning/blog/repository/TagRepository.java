@@ -1,11 +1,31 @@
 package com.learning.blog.repository;
 
 import com.learning.blog.model.Tag;
+import com.learning.blog.model.dtos.TagSuggestionDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // Returns 0 when the tag already exists, including one created by a transaction running at the same time
+    @Modifying
+    @Query(value = "INSERT INTO tags (id, name) VALUES (:id, :name) ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+    int insertIfNameAbsent(UUID id, String name);
+
+    // Tags whose posts are all drafts are kept, with a count of 0
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.TagSuggestionDto(t.name, COUNT(p.id))
+            FROM Tag t
+            LEFT JOIN t.posts p ON p.status = com.learning.blog.model.enums.PostStatus.PUBLISHED
+            GROUP BY t.id, t.name
+            """)
+    List<TagSuggestionDto> findAllWithPostCount();
 }
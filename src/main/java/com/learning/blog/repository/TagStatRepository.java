@@ -0,0 +1,48 @@
+package com.learning.blog.repository;
+
+import com.learning.blog.model.TagStat;
+import com.learning.blog.model.TagStatId;
+import com.learning.blog.repository.projection.TagStatRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TagStatRepository extends JpaRepository<TagStat, TagStatId> {
+
+    @Query("""
+            SELECT s.id.categoryId AS categoryId, t.name AS tagName, s.postCount AS postCount
+            FROM TagStat s JOIN Tag t ON t.id = s.id.tagId
+            WHERE s.postCount > 0
+            """)
+    List<TagStatRow> findAllRows();
+
+    // One statement whether or not the row exists, so two instances flushing the same new key cannot both insert it
+    @Modifying
+    @Query(value = """
+            INSERT INTO tag_stats (tag_id, category_id, post_count)
+            VALUES (:tagId, :categoryId, GREATEST(:delta, 0))
+            ON CONFLICT (tag_id, category_id) DO UPDATE SET post_count = tag_stats.post_count + :delta
+            """, nativeQuery = true)
+    int addToPostCount(UUID tagId, UUID categoryId, long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM tag_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    // Recounts from post_tags; only run after a bulk import, never on a request path
+    @Modifying
+    @Query(value = """
+            INSERT INTO tag_stats (tag_id, category_id, post_count)
+            SELECT pt.tag_id, p.category_id, COUNT(*)
+            FROM post_tags pt
+            JOIN posts p ON p.id = pt.post_id
+            WHERE p.status = 'PUBLISHED'
+            GROUP BY pt.tag_id, p.category_id
+            """, nativeQuery = true)
+    int recountFromPosts();
+}
@@ -0,0 +1,40 @@
+package com.learning.blog.repository;
+
+import com.learning.blog.model.UserDeletionJob;
+import com.learning.blog.model.enums.DeletionJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, UUID> {
+
+    // lock.timeout -2 is Hibernate's SKIP LOCKED, so two instances never claim the same job
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT j FROM UserDeletionJob j
+            WHERE j.status = com.learning.blog.model.enums.DeletionJobStatus.PENDING
+            OR (j.status = com.learning.blog.model.enums.DeletionJobStatus.RUNNING AND j.updatedAt < :staleBefore)
+            ORDER BY j.createdAt
+            """)
+    List<UserDeletionJob> findClaimable(LocalDateTime staleBefore, Limit limit);
+
+    Optional<UserDeletionJob> findFirstByUserIdAndStatusIn(UUID userId, Collection<DeletionJobStatus> statuses);
+
+    @Modifying
+    @Query("""
+            UPDATE UserDeletionJob j
+            SET j.postsDeleted = j.postsDeleted + :posts, j.updatedAt = :now
+            WHERE j.id = :id
+            """)
+    int recordProgress(UUID id, long posts, LocalDateTime now);
+}
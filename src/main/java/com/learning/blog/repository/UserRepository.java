@@ -1,9 +1,18 @@
 package com.learning.blog.repository;
 
 import com.learning.blog.model.User;
+import com.learning.blog.model.dtos.UserResponse;
+import com.learning.blog.model.enums.UserRole;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +20,55 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Registration in one statement: the unique email decides, so concurrent sign-ups with the same address cannot
+    // both pass a separate existence check. Returns 0 when the email is taken.
+    @Modifying
+    @Query(value = """
+            INSERT INTO users (id, email, name, password, role, is_enabled, verification_code, expiration_time, created_at)
+            VALUES (:#{#user.id}, :#{#user.email}, :#{#user.name}, :#{#user.password}, :#{#user.role.name()},
+                    :#{#user.enabled}, :#{#user.verificationCode}, :#{#user.expirationTime}, :#{#user.createdAt})
+            ON CONFLICT (email) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfEmailAbsent(User user);
+
+    // A null role or enabled matches every user; both filters and the ordering are served by the users indexes
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.UserResponse(u.id, u.name, u.email, u.role, u.isEnabled, u.createdAt)
+            FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+            AND (:enabled IS NULL OR u.isEnabled = :enabled)
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserResponse> findUsers(UserRole role, Boolean enabled, Limit limit);
+
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.UserResponse(u.id, u.name, u.email, u.role, u.isEnabled, u.createdAt)
+            FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+            AND (:enabled IS NULL OR u.isEnabled = :enabled)
+            AND (u.createdAt, u.id) < (:createdAt, :id)
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserResponse> findUsersAfter(UserRole role, Boolean enabled, LocalDateTime createdAt, UUID id, Limit limit);
+
+    // A Slice reads one row past the page to tell whether another follows, so no COUNT query is issued
+    @Query("""
+            SELECT new com.learning.blog.model.dtos.UserResponse(u.id, u.name, u.email, u.role, u.isEnabled, u.createdAt)
+            FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+            AND (:enabled IS NULL OR u.isEnabled = :enabled)
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    Slice<UserResponse> findUserSlice(UserRole role, Boolean enabled, Pageable pageable);
+
+    // The row lock it takes also queues concurrent deletion requests for the same user behind one another
+    @Modifying
+    @Query("UPDATE User u SET u.isEnabled = false WHERE u.id = :id")
+    int disableById(UUID id);
+
+    // A bulk delete, so the posts collection is not loaded for the cascade; the posts must already be gone
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteByIdInBulk(UUID id);
 }
@@ -0,0 +1,15 @@
+package com.learning.blog.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PostSearchRow {
+    UUID getId();
+    String getTitle();
+    String getAuthorName();
+    String getCategoryName();
+    Integer getReadingTime();
+    LocalDateTime getCreatedAt();
+    Float getRank();
+    String getSnippet();
+}
@@ -0,0 +1,9 @@
+package com.learning.blog.repository.projection;
+
+import java.util.UUID;
+
+public interface TagStatRow {
+    UUID getCategoryId();
+    String getTagName();
+    long getPostCount();
+}
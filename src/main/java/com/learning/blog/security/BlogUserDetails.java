@@ -1,6 +1,7 @@
 package com.learning.blog.security;
 
 import com.learning.blog.model.User;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,6 +11,7 @@ import java.util.Collection;
 import java.util.List;
 
 @RequiredArgsConstructor
+@Getter
 public class BlogUserDetails implements UserDetails {
     private final User user;
 
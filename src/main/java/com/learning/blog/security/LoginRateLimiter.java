@@ -0,0 +1,132 @@
+package com.learning.blog.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learning.blog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token buckets per client IP and per email in front of the password check, so a credential-stuffing burst is
+// turned away before it reaches bcrypt. Buckets live in bounded Caffeine maps (striped internally) and each one
+// is a single AtomicLong updated with CAS, so concurrent logins never block on each other.
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Counter accepted;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginRateLimiter(
+            @Value("${auth.login-rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${auth.login-rate-limit.ip.refill-period:60000}") long ipRefillPeriodInMs,
+            @Value("${auth.login-rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${auth.login-rate-limit.email.refill-period:60000}") long emailRefillPeriodInMs,
+            @Value("${auth.login-rate-limit.maximum-keys:100000}") long maximumKeys,
+            MeterRegistry meterRegistry) {
+        this.ipLimit = new Limit(ipCapacity, ipRefillPeriodInMs, maximumKeys);
+        this.emailLimit = new Limit(emailCapacity, emailRefillPeriodInMs, maximumKeys);
+        this.accepted = meterRegistry.counter("auth.login.throttle", "result", "accepted", "limit", "none");
+        this.rejectedByIp = meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "ip");
+        this.rejectedByEmail = meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "email");
+    }
+
+    // Both buckets are checked before either is drawn from, so an attempt refused for its email does not use up a
+    // token of its IP, or the other way round. Rejections are counted rather than logged, as a burst would
+    // otherwise write one line per attempt.
+    public void acquire(String email, String clientIp) {
+        long now = System.nanoTime();
+        String emailKey = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+
+        long ipWait = ipLimit.waitTime(clientIp, now);
+        if (ipWait > 0) {
+            throw rejected(rejectedByIp, "Login attempts from {} are being throttled", clientIp, ipWait);
+        }
+        long emailWait = emailLimit.waitTime(emailKey, now);
+        if (emailWait > 0) {
+            throw rejected(rejectedByEmail, "Login attempts for {} are being throttled", email, emailWait);
+        }
+
+        // Concurrent attempts may have emptied a bucket since it was checked
+        ipWait = ipLimit.tryAcquire(clientIp, now);
+        if (ipWait > 0) {
+            throw rejected(rejectedByIp, "Login attempts from {} are being throttled", clientIp, ipWait);
+        }
+        emailWait = emailLimit.tryAcquire(emailKey, now);
+        if (emailWait > 0) {
+            ipLimit.release(clientIp);
+            throw rejected(rejectedByEmail, "Login attempts for {} are being throttled", email, emailWait);
+        }
+
+        accepted.increment();
+    }
+
+    private static TooManyRequestsException rejected(Counter counter, String message, String key, long waitNanos) {
+        counter.increment();
+        log.debug(message, key);
+        return new TooManyRequestsException("Too many login attempts, please try again later", toSeconds(waitNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // Token bucket kept as a theoretical arrival time (GCRA): each attempt pushes it one emission interval into the
+    // future and an attempt is refused when that would put it more than a full bucket ahead of now.
+    private static final class Limit {
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final Cache<String, AtomicLong> buckets;
+
+        private Limit(int capacity, long refillPeriodInMs, long maximumKeys) {
+            long refillPeriodNanos = TimeUnit.MILLISECONDS.toNanos(refillPeriodInMs);
+            this.emissionIntervalNanos = refillPeriodNanos / capacity;
+            this.burstNanos = emissionIntervalNanos * capacity;
+            // An idle bucket is full again after one refill period, so dropping it then loses nothing
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(Duration.ofNanos(refillPeriodNanos))
+                    .build();
+        }
+
+        // Returns 0 when a token is left, otherwise how long to wait in nanoseconds; takes nothing
+        private long waitTime(String key, long now) {
+            AtomicLong bucket = buckets.getIfPresent(key);
+            return bucket == null ? 0 : Math.max(0, Math.max(bucket.get(), now) + emissionIntervalNanos - now - burstNanos);
+        }
+
+        // Gives back a token taken by tryAcquire
+        private void release(String key) {
+            AtomicLong bucket = buckets.getIfPresent(key);
+            if (bucket != null) {
+                bucket.addAndGet(-emissionIntervalNanos);
+            }
+        }
+
+        // Returns 0 when a token was taken, otherwise how long to wait in nanoseconds
+        private long tryAcquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key, k -> new AtomicLong(now - burstNanos));
+            while (true) {
+                long arrival = bucket.get();
+                long next = Math.max(arrival, now) + emissionIntervalNanos;
+                long ahead = next - now;
+                if (ahead > burstNanos) {
+                    return ahead - burstNanos;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.learning.blog.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final Cache<PrincipalKey, UserDetails> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserPrincipalCache(
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.principal-cache.expiration:300000}") long expirationInMs,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expirationInMs))
+                .recordStats()
+                .build();
+        // Exported as cache.gets, cache.puts, cache.evictions and cache.size with cache=user-principals
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-principals");
+    }
+
+    // Loads outside the cache: Caffeine computes inside ConcurrentHashMap's synchronized bin lock, and a database
+    // read there would pin the carrier of a virtual thread. Two requests racing on a cold key may both load.
+    public UserDetails get(String subject, Date issuedAt, Function<String, UserDetails> loader) {
+        PrincipalKey key = new PrincipalKey(subject, issuedAt == null ? 0L : issuedAt.getTime());
+        UserDetails cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        UserDetails loaded = loader.apply(subject);
+        UserDetails raced = cache.asMap().putIfAbsent(key, loaded);
+        if (raced != null) {
+            return raced;
+        }
+        // An eviction that ran while the row was being read may have been over before this entry was put;
+        // the principal it loaded may be stale, so it is not kept
+        if (generation.get() != loadedGeneration) {
+            cache.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> cache.asMap().keySet().removeIf(key -> key.subject().equals(email)));
+        log.debug("Evicted cached principals for email: {}", email);
+    }
+
+    public void evict(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> cache.asMap().values().removeIf(details ->
+                details instanceof BlogUserDetails blogUserDetails
+                        && userId.equals(blogUserDetails.getUser().getId())));
+        log.debug("Evicted cached principals for user id: {}", userId);
+    }
+
+    // A request running concurrently with the writing transaction may reload the old row before it commits,
+    // so the entries are dropped again once the transaction is done.
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        Runnable counted = () -> {
+            generation.incrementAndGet();
+            eviction.run();
+        };
+        counted.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    counted.run();
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record PrincipalKey(String subject, long issuedAt) {
+    }
+}
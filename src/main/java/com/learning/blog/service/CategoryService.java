@@ -1,12 +1,15 @@
 package com.learning.blog.service;
 
 import com.learning.blog.model.Category;
+import com.learning.blog.model.dtos.CategoryDto;
+import com.learning.blog.model.dtos.CategoryListing;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface CategoryService {
-    List<Category> getAllWithPostCount();
+    List<CategoryDto> getAllWithPostCount();
+    CategoryListing getCategoryListing();
     Category createCategory(Category category);
     void deleteCategory(UUID id);
 }
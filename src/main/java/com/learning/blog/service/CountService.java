@@ -0,0 +1,15 @@
+package com.learning.blog.service;
+
+import com.learning.blog.model.dtos.ContentCounts;
+import com.learning.blog.model.enums.CountMode;
+import com.learning.blog.model.enums.PostStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface CountService {
+    long countUsers(CountMode mode);
+    Map<PostStatus, Long> countPostsByStatus(CountMode mode);
+    Map<UUID, Long> countPostsByCategory(CountMode mode);
+    ContentCounts getContentCounts(CountMode mode);
+}
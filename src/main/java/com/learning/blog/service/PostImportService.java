@@ -0,0 +1,11 @@
+package com.learning.blog.service;
+
+import com.learning.blog.model.dtos.PostImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface PostImportService {
+    PostImportReport importPosts(InputStream ndjson, UUID authorId) throws IOException;
+}
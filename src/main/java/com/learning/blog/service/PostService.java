@@ -0,0 +1,19 @@
+package com.learning.blog.service;
+
+import com.learning.blog.model.dtos.CreatePostRequest;
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.PostDto;
+import com.learning.blog.model.dtos.PostSearchResultDto;
+import com.learning.blog.model.dtos.PostSummaryDto;
+import com.learning.blog.model.dtos.UpdatePostRequest;
+
+import java.util.UUID;
+
+public interface PostService {
+    CursorPage<PostSummaryDto> getPublishedFeed(String cursor, int size);
+    PostDto getPublishedPost(UUID id);
+    CursorPage<PostSearchResultDto> searchPublishedPosts(String query, String cursor, int size);
+    PostDto createPost(CreatePostRequest createPostRequest, UUID authorId);
+    PostDto updatePost(UUID id, UpdatePostRequest updatePostRequest, UUID userId);
+    void deletePost(UUID id, UUID userId);
+}
@@ -0,0 +1,12 @@
+package com.learning.blog.service;
+
+import com.learning.blog.model.dtos.PopularTagDto;
+import com.learning.blog.model.dtos.TagSuggestionDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TagService {
+    List<TagSuggestionDto> suggestTags(String prefix, int limit);
+    List<PopularTagDto> getPopularTags(UUID categoryId, int limit);
+}
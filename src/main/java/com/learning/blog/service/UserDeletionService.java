@@ -0,0 +1,10 @@
+package com.learning.blog.service;
+
+import com.learning.blog.model.dtos.UserDeletionJobDto;
+
+import java.util.UUID;
+
+public interface UserDeletionService {
+    UserDeletionJobDto requestDeletion(UUID userId);
+    UserDeletionJobDto getJob(UUID jobId);
+}
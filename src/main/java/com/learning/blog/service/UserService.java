@@ -1,19 +1,21 @@
 package com.learning.blog.service;
 
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.SlicePage;
+import com.learning.blog.model.dtos.UserDeletionJobDto;
 import com.learning.blog.model.dtos.UserRequest;
 import com.learning.blog.model.dtos.UserResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 import java.util.UUID;
 
 public interface UserService {
     UserResponse getUserById(UUID id);
     UserResponse getUserByEmail(String email);
-    Page<UserResponse> getAllUsers(Pageable pageable);
+    CursorPage<UserResponse> getUsers(String role, Boolean enabled, String cursor, int size);
+    SlicePage<UserResponse> getUserSlice(String role, Boolean enabled, int page, int size);
     UserResponse updateUser(UUID id, UserRequest userRequest);
     UserResponse updateUserRole(UUID id, String role);
-    void deleteUser(UUID id);
-    void deleteUserByEmail(String email);
+    UserDeletionJobDto deleteUser(UUID id);
+    UserDeletionJobDto deleteUserByEmail(String email);
     long getUsersCount();
 }
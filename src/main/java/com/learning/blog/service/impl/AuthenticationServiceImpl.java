@@ -1,21 +1,30 @@
 package com.learning.blog.service.impl;
 
+import com.learning.blog.event.UserChangedEvent;
+import com.learning.blog.exception.ServiceUnavailableException;
 import com.learning.blog.mapper.UserMapper;
+import com.learning.blog.model.BaseEntity;
 import com.learning.blog.model.User;
 import com.learning.blog.model.dtos.*;
 import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.security.UserPrincipalCache;
 import com.learning.blog.service.AuthenticationService;
+import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -31,29 +40,36 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final UserMapper userMapper;
     private final JwtService jwtService;
     private final EmailService emailService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
+    // Not @Transactional: the password is hashed first, so no pooled connection is held while it waits for bcrypt.
+    // The user row and its verification email are then written in one transaction.
     @Override
-    @Transactional
     public AuthResponse register(RegisterRequest registerRequest) {
         try {
-            if (userRepository.existsByEmail(registerRequest.getEmail())) {
-                log.warn("Registration attempt with existing email: {}", registerRequest.getEmail());
-                throw new IllegalArgumentException("Email already in use");
-            }
-
             if(!registerRequest.getPassword().equals(registerRequest.getConfirmPassword())) {
                 log.warn("Password and confirm password do not match for email: {}", registerRequest.getEmail());
                 throw new IllegalArgumentException("Password and confirm password do not match");
             }
 
             User user = userMapper.toEntity(registerRequest);
+            user.setId(BaseEntity.generateId());
             user.setPassword(passwordEncoder.encode(user.getPassword()));
             user.setEnabled(false);
             user.setVerificationCode(generateVerificationCode());
             user.setExpirationTime(LocalDateTime.now().plusMinutes(15));
-            User savedUser = userRepository.save(user);
+            user.setCreatedAt(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> {
+                if (userRepository.insertIfEmailAbsent(user) == 0) {
+                    log.warn("Registration attempt with existing email: {}", registerRequest.getEmail());
+                    throw new IllegalArgumentException("Email already in use");
+                }
+                eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
-            emailService.sendVerificationEmail(savedUser);
+                emailService.sendVerificationEmail(user);
+            });
 
             return AuthResponse.builder()
                     .statusCode(201)
@@ -115,6 +131,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Override
+    @Transactional
     public AuthResponse resendVerification(String email) {
         try {
             User user = userRepository.findByEmail(email)
@@ -147,18 +164,18 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public AuthResponse login(LoginRequest loginRequest) {
         try {
-            authenticationManager.authenticate(
+            // The provider already loaded the user to check the password, so its principal is reused
+            // instead of reading the same row twice more
+            Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())
             );
 
-            User user = userRepository.findByEmail(loginRequest.getEmail())
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + loginRequest.getEmail()));
+            BlogUserDetails userDetails = (BlogUserDetails) authentication.getPrincipal();
 
-            if (!user.isEnabled()) {
+            if (!userDetails.getUser().isEnabled()) {
                 throw new IllegalArgumentException("User is not enabled. Please verify your account first.");
             }
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getEmail());
             String token = jwtService.generateToken(userDetails);
 
             return AuthResponse.builder()
@@ -170,6 +187,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         } catch (BadCredentialsException e) {
             log.error("Authentication failed for email: {}", loginRequest.getEmail());
             throw e;
+        } catch (ServiceUnavailableException e) {
+            log.debug("Login for email {} shed, password hashing is saturated", loginRequest.getEmail());
+            throw e;
         } catch (Exception e) {
             log.error("Error during authentication for email: {}, error: {}", loginRequest.getEmail(), e.getMessage());
             throw e;
@@ -177,6 +197,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Override
+    @Transactional
     public AuthResponse forgotPassword(String email) {
         try {
             User user = userRepository.findByEmail(email)
@@ -230,6 +251,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             user.setVerificationCode(null);
             user.setExpirationTime(null);
             userRepository.save(user);
+            userPrincipalCache.evict(email);
 
             return AuthResponse.builder()
                     .statusCode(200)
@@ -257,8 +279,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 throw new IllegalArgumentException("Email not found");
             }
 
+            Claims claims = jwtService.parseClaims(token);
             UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            if (jwtService.isTokenValid(token, userDetails)) {
+            if (jwtService.isTokenValid(claims, userDetails)) {
                 String newToken = jwtService.generateToken(userDetails);
                 return AuthResponse.builder()
                         .statusCode(200)
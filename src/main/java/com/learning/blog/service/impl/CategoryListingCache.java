@@ -0,0 +1,100 @@
+package com.learning.blog.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.blog.event.CategoryChangedEvent;
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.model.dtos.CategoryDto;
+import com.learning.blog.model.dtos.CategoryListing;
+import com.learning.blog.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryListingCache {
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CategoryListing listing;
+
+    public CategoryListing get() {
+        CategoryListing current = listing;
+        if (current != null) {
+            return current;
+        }
+
+        loadLock.lock();
+        try {
+            current = listing;
+            if (current != null) {
+                return current;
+            }
+            long loadedGeneration = generation.get();
+            CategoryListing loaded = load();
+            // Do not publish a listing that was read while a write was being invalidated
+            if (generation.get() == loadedGeneration) {
+                listing = loaded;
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        listing = null;
+        log.debug("Category listing cache invalidated");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.changesPublishedCategoryCounts()) {
+            invalidate();
+        }
+    }
+
+    private CategoryListing load() {
+        List<CategoryDto> categories = List.copyOf(categoryRepository.findAllWithPostCount());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(categories);
+            return new CategoryListing(categories, json, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize category listing", e);
+        }
+    }
+
+    private String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.learning.blog.service.impl;
 
+import com.learning.blog.event.CategoryChangedEvent;
+import com.learning.blog.model.BaseEntity;
 import com.learning.blog.model.Category;
+import com.learning.blog.model.dtos.CategoryDto;
+import com.learning.blog.model.dtos.CategoryListing;
 import com.learning.blog.repository.CategoryRepository;
 import com.learning.blog.service.CategoryService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,21 +20,29 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryListingCache categoryListingCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Override
+    public List<CategoryDto> getAllWithPostCount() {
+        return categoryListingCache.get().categories();
+    }
 
     @Override
-    public List<Category> getAllWithPostCount() {
-        return categoryRepository.findAllWithPostCount();
+    public CategoryListing getCategoryListing() {
+        return categoryListingCache.get();
     }
 
     @Override
     @Transactional
     public Category createCategory(Category category) {
         String name = category.getName();
-        if(categoryRepository.existsByNameIgnoreCase(name)) {
+        category.setId(BaseEntity.generateId());
+        if(categoryRepository.insertIfNameAbsent(category.getId(), name) == 0) {
             throw new IllegalArgumentException("Category with name " + name + " already exists");
         }
-        return categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+        return category;
     }
 
     @Override
@@ -41,6 +54,7 @@ public class CategoryServiceImpl implements CategoryService {
                 throw new IllegalStateException("Category with id " + id + " has posts and cannot be deleted");
             }
             categoryRepository.deleteById(id);
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
         }
     }
 }
@@ -0,0 +1,240 @@
+package com.learning.blog.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.event.UserChangedEvent;
+import com.learning.blog.model.dtos.CategoryPostCount;
+import com.learning.blog.model.dtos.ContentCounts;
+import com.learning.blog.model.enums.CountMode;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.service.CountService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Exact counts are full scans on PostgreSQL, so they are cached and recomputed in the background: after a write
+// or once the refresh interval has passed, readers keep getting the last count until the new one is ready.
+// Approximate counts come from the planner statistics kept by ANALYZE and autovacuum and cost a catalog lookup.
+@Service
+@Slf4j
+public class CountServiceImpl implements CountService {
+
+    private static final String TABLE_STATISTICS = """
+            SELECT c.reltuples, s.null_frac, s.n_distinct,
+                   s.most_common_vals::text::text[] AS most_common_vals, s.most_common_freqs
+            FROM pg_class c
+            JOIN pg_stats s ON s.schemaname = current_schema() AND s.tablename = c.relname AND s.attname = ?
+            WHERE c.oid = to_regclass(?)
+            """;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+
+    private final CachedCount<Long> users;
+    private final CachedCount<Map<PostStatus, Long>> postsByStatus;
+    private final CachedCount<Map<UUID, Long>> postsByCategory;
+
+    public CountServiceImpl(UserRepository userRepository,
+                            PostRepository postRepository,
+                            CategoryRepository categoryRepository,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${counts.exact.refresh-interval:60000}") long refreshIntervalInMs) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+
+        // Loads run on virtual threads; the caller only waits on the future, never inside a cache lock
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        Duration refreshInterval = Duration.ofMillis(refreshIntervalInMs);
+        this.users = new CachedCount<>(userRepository::count, refreshInterval, executor);
+        this.postsByStatus = new CachedCount<>(this::countPostsByStatusExactly, refreshInterval, executor);
+        this.postsByCategory = new CachedCount<>(this::countPostsByCategoryExactly, refreshInterval, executor);
+    }
+
+    @Override
+    public long countUsers(CountMode mode) {
+        if (mode == CountMode.APPROXIMATE) {
+            Long estimate = approximate(() -> jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('users')", Long.class));
+            // reltuples is -1 until the table has been analyzed
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        return users.get();
+    }
+
+    @Override
+    public Map<PostStatus, Long> countPostsByStatus(CountMode mode) {
+        if (mode == CountMode.APPROXIMATE) {
+            List<String> statuses = Arrays.stream(PostStatus.values()).map(Enum::name).toList();
+            Map<String, Long> estimates = approximate(() -> estimateDistribution("posts", "status", statuses));
+            if (estimates != null) {
+                Map<PostStatus, Long> counts = new EnumMap<>(PostStatus.class);
+                estimates.forEach((status, count) -> counts.put(PostStatus.valueOf(status), count));
+                return counts;
+            }
+        }
+        return postsByStatus.get();
+    }
+
+    @Override
+    public Map<UUID, Long> countPostsByCategory(CountMode mode) {
+        if (mode == CountMode.APPROXIMATE) {
+            List<String> categoryIds = categoryRepository.findAllIds().stream().map(UUID::toString).toList();
+            Map<String, Long> estimates = approximate(() -> estimateDistribution("posts", "category_id", categoryIds));
+            if (estimates != null) {
+                Map<UUID, Long> counts = new HashMap<>();
+                estimates.forEach((categoryId, count) -> counts.put(UUID.fromString(categoryId), count));
+                return counts;
+            }
+        }
+        return postsByCategory.get();
+    }
+
+    @Override
+    public ContentCounts getContentCounts(CountMode mode) {
+        return ContentCounts.builder()
+                .mode(mode)
+                .users(countUsers(mode))
+                .postsByStatus(countPostsByStatus(mode))
+                .postsByCategory(countPostsByCategory(mode))
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        users.refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.before() == null || event.after() == null || event.publicationChanged()) {
+            postsByStatus.refresh();
+        }
+        if (event.before() == null || event.after() == null
+                || !Objects.equals(event.before().categoryId(), event.after().categoryId())) {
+            postsByCategory.refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        postsByStatus.refresh();
+        postsByCategory.refresh();
+    }
+
+    private Map<PostStatus, Long> countPostsByStatusExactly() {
+        Map<PostStatus, Long> counts = new EnumMap<>(PostStatus.class);
+        for (PostStatus status : PostStatus.values()) {
+            counts.put(status, 0L);
+        }
+        postRepository.countByStatus().forEach(row -> counts.put(row.status(), row.count()));
+        return counts;
+    }
+
+    private Map<UUID, Long> countPostsByCategoryExactly() {
+        return postRepository.countByCategory().stream()
+                .collect(Collectors.toMap(CategoryPostCount::categoryId, CategoryPostCount::count));
+    }
+
+    // Values in the column's most-common list get their own frequency; every other known value gets an even
+    // share of what is left. Returns null when the table has not been analyzed yet.
+    private Map<String, Long> estimateDistribution(String table, String column, Collection<String> values) {
+        return jdbcTemplate.query(TABLE_STATISTICS, rs -> {
+            if (!rs.next() || rs.getFloat("reltuples") < 0) {
+                return null;
+            }
+            double rows = rs.getFloat("reltuples");
+            float distinct = rs.getFloat("n_distinct");
+            String[] commonValues = array(rs, "most_common_vals", String[].class, new String[0]);
+            Float[] commonFreqs = array(rs, "most_common_freqs", Float[].class, new Float[0]);
+
+            Map<String, Double> frequencies = new HashMap<>();
+            double remainingFrequency = 1 - rs.getFloat("null_frac");
+            for (int i = 0; i < commonValues.length; i++) {
+                frequencies.put(commonValues[i], (double) commonFreqs[i]);
+                remainingFrequency -= commonFreqs[i];
+            }
+            // A negative n_distinct is a fraction of the row count rather than a number of values
+            double distinctValues = distinct < 0 ? -distinct * rows : distinct;
+            double otherValues = distinctValues - commonValues.length;
+            double otherFrequency = otherValues >= 1 ? Math.max(0, remainingFrequency) / otherValues : 0;
+
+            Map<String, Long> estimates = new HashMap<>();
+            for (String value : values) {
+                estimates.put(value, Math.round(rows * frequencies.getOrDefault(value, otherFrequency)));
+            }
+            return estimates;
+        }, column, table);
+    }
+
+    private static <T> T array(ResultSet rs, String column, Class<T> type, T empty) throws SQLException {
+        Array array = rs.getArray(column);
+        return array == null ? empty : type.cast(array.getArray());
+    }
+
+    // The statistics are PostgreSQL's; elsewhere, or before the first ANALYZE, the exact cached count is used
+    private <T> T approximate(Supplier<T> estimate) {
+        try {
+            return estimate.get();
+        } catch (DataAccessException e) {
+            log.debug("Planner statistics unavailable, falling back to exact counts: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class CachedCount<T> {
+
+        private static final Object KEY = new Object();
+
+        private final AsyncLoadingCache<Object, T> cache;
+
+        private CachedCount(Supplier<T> loader, Duration refreshInterval, Executor executor) {
+            this.cache = Caffeine.newBuilder()
+                    .refreshAfterWrite(refreshInterval)
+                    .executor(executor)
+                    .buildAsync(key -> loader.get());
+        }
+
+        T get() {
+            return cache.get(KEY).join();
+        }
+
+        // Only counts someone has read are recomputed
+        void refresh() {
+            if (cache.getIfPresent(KEY) != null) {
+                cache.synchronous().refresh(KEY);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.model.EmailMessage;
+import com.learning.blog.model.enums.EmailStatus;
+import com.learning.blog.repository.EmailMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final EmailMessageRepository emailMessageRepository;
+    private final EmailService emailService;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer sendTimer;
+    private final Counter sentEmails;
+    private final Counter retriedEmails;
+    private final Counter failedEmails;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+    @Value("${email.outbox.retry-backoff:30000}")
+    private long retryBackoffInMs;
+    @Value("${email.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public EmailOutboxDispatcher(EmailMessageRepository emailMessageRepository,
+                                 EmailService emailService,
+                                 JavaMailSender javaMailSender,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.emailMessageRepository = emailMessageRepository;
+        this.emailService = emailService;
+        this.javaMailSender = javaMailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sendTimer = Timer.builder("emails.send")
+                .description("Time to deliver one outbox batch over SMTP")
+                .register(meterRegistry);
+        this.sentEmails = meterRegistry.counter("emails.delivery", "result", "sent");
+        this.retriedEmails = meterRegistry.counter("emails.delivery", "result", "retry");
+        this.failedEmails = meterRegistry.counter("emails.delivery", "result", "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:5000}")
+    public void drainOutbox() {
+        int sent;
+        do {
+            sent = dispatchPending();
+        } while (sent == batchSize);
+    }
+
+    public int dispatchPending() {
+        Integer sent = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailMessage> batch = emailMessageRepository.findDueForDispatch(
+                    EmailStatus.PENDING, now, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            return send(batch, now);
+        });
+        return sent == null ? 0 : sent;
+    }
+
+    @Scheduled(cron = "${email.outbox.cleanup-cron:0 0 3 * * *}")
+    public void purgeSentMessages() {
+        Integer deleted = transactionTemplate.execute(status -> emailMessageRepository.deleteSentBefore(
+                EmailStatus.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        log.debug("Purged {} delivered emails from the outbox", deleted);
+    }
+
+    private int send(List<EmailMessage> batch, LocalDateTime now) {
+        Map<MimeMessage, EmailMessage> messages = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(batch.size());
+        for (EmailMessage emailMessage : batch) {
+            try {
+                MimeMessage mimeMessage = emailService.toMimeMessage(emailMessage);
+                messages.put(mimeMessage, emailMessage);
+                mimeMessages.add(mimeMessage);
+            } catch (Exception e) {
+                markFailedAttempt(emailMessage, e, now);
+            }
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        long start = System.nanoTime();
+        try {
+            // A single send call delivers the whole batch over one SMTP connection
+            javaMailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(mimeMessages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(mimeMessages, e);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        int sent = 0;
+        for (MimeMessage mimeMessage : mimeMessages) {
+            EmailMessage emailMessage = messages.get(mimeMessage);
+            Exception failure = failures.get(mimeMessage);
+            if (failure == null) {
+                emailMessage.setStatus(EmailStatus.SENT);
+                emailMessage.setSentAt(now);
+                emailMessage.setLastError(null);
+                sent++;
+            } else {
+                markFailedAttempt(emailMessage, failure, now);
+            }
+        }
+        sentEmails.increment(sent);
+        log.debug("Dispatched {} of {} outbox emails", sent, batch.size());
+        return sent;
+    }
+
+    private void markFailedAttempt(EmailMessage emailMessage, Exception e, LocalDateTime now) {
+        int attempts = emailMessage.getAttempts() + 1;
+        emailMessage.setAttempts(attempts);
+        emailMessage.setLastError(truncate(e.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            emailMessage.setStatus(EmailStatus.FAILED);
+            failedEmails.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    emailMessage.getId(), emailMessage.getRecipient(), attempts, e.getMessage());
+            return;
+        }
+
+        retriedEmails.increment();
+        Duration backoff = Duration.ofMillis(retryBackoffInMs).multipliedBy(1L << Math.min(attempts - 1, 16));
+        emailMessage.setNextAttemptAt(now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff));
+        log.warn("Failed to send email {} to {} (attempt {}), retrying at {}: {}",
+                emailMessage.getId(), emailMessage.getRecipient(), attempts, emailMessage.getNextAttemptAt(), e.getMessage());
+    }
+
+    private Map<Object, Exception> allFailed(List<MimeMessage> mimeMessages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        mimeMessages.forEach(mimeMessage -> failures.put(mimeMessage, e));
+        return failures;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
@@ -1,6 +1,12 @@
 package com.learning.blog.service.impl;
 
+import com.learning.blog.model.EmailMessage;
 import com.learning.blog.model.User;
+import com.learning.blog.model.enums.EmailStatus;
+import com.learning.blog.repository.EmailMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -9,9 +15,17 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
     private final JavaMailSender javaMailSender;
+    private final EmailMessageRepository emailMessageRepository;
+    private final Counter verificationEmails;
+    private final Counter resetPasswordEmails;
 
-    public EmailService(JavaMailSender javaMailSender) {
+    public EmailService(JavaMailSender javaMailSender,
+                        EmailMessageRepository emailMessageRepository,
+                        MeterRegistry meterRegistry) {
         this.javaMailSender = javaMailSender;
+        this.emailMessageRepository = emailMessageRepository;
+        this.verificationEmails = meterRegistry.counter("emails.queued", "type", "verification");
+        this.resetPasswordEmails = meterRegistry.counter("emails.queued", "type", "reset-password");
     }
 
     public void sendVerificationEmail(User user) {
@@ -21,6 +35,7 @@ public class EmailService {
                 "\nThis code will expire in 15 minutes.";
 
         sendEmail(to, subject, body);
+        verificationEmails.increment();
     }
 
     public void sendResetPasswordEmail(User user) {
@@ -30,18 +45,24 @@ public class EmailService {
                 + "\nThis code will expire in 15 minutes.";
 
         sendEmail(to, subject, body);
+        resetPasswordEmails.increment();
     }
 
+    public MimeMessage toMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        mimeMessage.setSubject(emailMessage.getSubject());
+        mimeMessage.setRecipients(MimeMessage.RecipientType.TO, emailMessage.getRecipient());
+        mimeMessage.setText(emailMessage.getBody());
+        return mimeMessage;
+    }
 
+    // Emails are written to the outbox in the caller's transaction and delivered by EmailOutboxDispatcher.
     private void sendEmail(String to, String subject, String message) {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            mimeMessage.setSubject(subject);
-            mimeMessage.setRecipients(MimeMessage.RecipientType.TO, to);
-            mimeMessage.setText(message);
-            javaMailSender.send(mimeMessage);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to send email");
-        }
+        emailMessageRepository.save(EmailMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(message)
+                .status(EmailStatus.PENDING)
+                .build());
     }
 }
@@ -1,14 +1,16 @@
 package com.learning.blog.service.impl;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Objects;
@@ -22,12 +24,23 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long jwtExpirationInMs; // 1 hour
 
+    private SecretKey signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signKey)
+                .build();
+    }
+
     public String generateToken(UserDetails userDetails) {
         return Jwts.builder()
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .compact();
     }
 
@@ -37,36 +50,37 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .compact();
     }
 
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUsername(String token) {
         return extractClaims(token, Claims::getSubject);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
     public boolean isTokenExpired(String token) {
-        return extractClaims(token, Claims::getExpiration).before(new Date());
+        return isTokenExpired(parseClaims(token));
     }
 
-    private Key getSignKey() {
-        byte[] keyBytes = SECRET_KEY.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public <T> T extractClaims(String token, Function<Claims, T> claimsExtractor) {
-        return claimsExtractor.apply(
-                Jwts.parser()
-                        .verifyWith((SecretKey) getSignKey())
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-        );
+        return claimsExtractor.apply(parseClaims(token));
     }
 
 }
@@ -0,0 +1,301 @@
+package com.learning.blog.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.exception.ResourceNotFoundException;
+import com.learning.blog.model.BaseEntity;
+import com.learning.blog.model.dtos.PostImportRecord;
+import com.learning.blog.model.dtos.PostImportReport;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.service.PostImportService;
+import com.learning.blog.util.WordCounter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Streams an NDJSON body one record at a time and writes it in chunks of plain JDBC batch inserts, each chunk in
+// its own transaction. Nothing goes through the persistence context, so memory is bounded by the chunk size plus
+// the category and tag names seen so far, however large the import is. A chunk that fails is rolled back and
+// reported, and the import goes on with the next one.
+@Service
+@Slf4j
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TAG_LENGTH = 255;
+
+    private static final String INSERT_POST = """
+            INSERT INTO posts (id, title, content, status, reading_time, word_count, author_id, category_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_POST_TAG = "INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)";
+    // Names created meanwhile by another import or request are skipped here and read back with the others
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO categories (id, name) VALUES (?, ?) ON CONFLICT ((upper(name))) DO NOTHING";
+    private static final String INSERT_TAG = "INSERT INTO tags (id, name) VALUES (?, ?) ON CONFLICT (name) DO NOTHING";
+    // Both return each name as given with the id it resolves to. Category names are compared with the database's
+    // upper(), the one the unique index uses, as Java's upper case differs from it outside ASCII.
+    private static final String SELECT_CATEGORIES = """
+            SELECT v.name, c.id FROM (VALUES :names) AS v(name)
+            JOIN categories c ON upper(c.name) = upper(v.name)
+            """;
+    private static final String SELECT_TAGS = """
+            SELECT v.name, t.id FROM (VALUES :names) AS v(name)
+            JOIN tags t ON t.name = v.name
+            """;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${posts.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public PostImportServiceImpl(ObjectMapper objectMapper,
+                                 Validator validator,
+                                 JdbcTemplate jdbcTemplate,
+                                 NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 UserRepository userRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public PostImportReport importPosts(InputStream ndjson, UUID authorId) throws IOException {
+        if (!userRepository.existsById(authorId)) {
+            throw new ResourceNotFoundException("User not found with id: " + authorId);
+        }
+
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun();
+        List<PostImportRecord> chunk = new ArrayList<>(chunkSize);
+        long recordNumber = 0;
+
+        // Each record is bound from its own small tree, so a record with a bad field is rejected on its own;
+        // only broken JSON syntax stops the import
+        try (JsonParser parser = objectMapper.getFactory().createParser(ndjson);
+             MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(parser)) {
+            while (true) {
+                JsonNode node;
+                try {
+                    if (!nodes.hasNextValue()) {
+                        run.report.setCompleted(true);
+                        break;
+                    }
+                    node = nodes.nextValue();
+                } catch (JsonProcessingException e) {
+                    run.reject("Record " + (recordNumber + 1) + ": malformed JSON, import stopped: "
+                            + e.getOriginalMessage());
+                    break;
+                }
+                recordNumber++;
+
+                PostImportRecord record = bind(node, recordNumber, run);
+                if (record == null) {
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, authorId, run);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, authorId, run);
+            }
+        } finally {
+            // Chunks already committed stay, even when reading the body failed, so their posts must be counted
+            if (run.report.getImported() > 0) {
+                eventPublisher.publishEvent(new PostsBulkChangedEvent(run.report.getImported()));
+            }
+        }
+
+        run.report.setElapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Post import finished: {} imported, {} rejected in {} ms",
+                run.report.getImported(), run.report.getRejected(), run.report.getElapsedMs());
+        return run.report;
+    }
+
+    private PostImportRecord bind(JsonNode node, long recordNumber, ImportRun run) {
+        PostImportRecord record;
+        try {
+            record = objectMapper.treeToValue(node, PostImportRecord.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            run.reject("Record " + recordNumber + ": " + e.getMessage().lines().findFirst().orElse("invalid record"));
+            return null;
+        }
+        Set<ConstraintViolation<PostImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            run.reject("Record " + recordNumber + ": " + violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        record.setCategory(record.getCategory().trim());
+        record.setTags(record.getTags() == null ? Set.of() : record.getTags().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet()));
+        // Checked on the stored form, as lowercasing can make a name longer
+        if (record.getTags().stream().anyMatch(name -> name.length() > MAX_TAG_LENGTH)) {
+            run.reject("Record " + recordNumber + ": Tag must be at most " + MAX_TAG_LENGTH + " characters");
+            return null;
+        }
+        return record;
+    }
+
+    private void writeChunk(List<PostImportRecord> chunk, UUID authorId, ImportRun run) {
+        long start = System.nanoTime();
+        int chunkNumber = run.report.getChunks().size() + run.failedChunks + 1;
+        // Ids resolved for this chunk are kept only once it has committed, as a rollback takes new names with it
+        Map<String, UUID> categoryIds = new HashMap<>();
+        Map<String, UUID> tagIds = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                resolveCategories(chunk, run, categoryIds);
+                resolveTags(chunk, run, tagIds);
+
+                LocalDateTime now = LocalDateTime.now();
+                List<Object[]> posts = new ArrayList<>(chunk.size());
+                List<Object[]> postTags = new ArrayList<>();
+                for (PostImportRecord record : chunk) {
+                    UUID postId = BaseEntity.generateId();
+                    int words = WordCounter.count(record.getContent());
+                    LocalDateTime createdAt = record.getCreatedAt() == null ? now : record.getCreatedAt();
+                    PostStatus postStatus = record.getStatus() == null ? PostStatus.DRAFT : record.getStatus();
+                    posts.add(new Object[]{
+                            postId, record.getTitle(), record.getContent(), postStatus.name(),
+                            WordCounter.readingTimeMinutes(words), words, authorId,
+                            categoryIds.get(record.getCategory()), createdAt, createdAt
+                    });
+                    for (String tag : record.getTags()) {
+                        postTags.add(new Object[]{postId, tagIds.get(tag)});
+                    }
+                }
+                jdbcTemplate.batchUpdate(INSERT_POST, posts);
+                jdbcTemplate.batchUpdate(INSERT_POST_TAG, postTags);
+            });
+        } catch (DataAccessException e) {
+            run.failedChunks++;
+            run.report.setRejected(run.report.getRejected() + chunk.size());
+            run.addError("Chunk " + chunkNumber + ": " + chunk.size() + " posts not imported: "
+                    + e.getMostSpecificCause().getMessage().lines().findFirst().orElse("database error"));
+            log.warn("Post import chunk {} of {} posts failed", chunkNumber, chunk.size(), e);
+            return;
+        }
+        run.categoryIds.putAll(categoryIds);
+        run.tagIds.putAll(tagIds);
+
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        PostImportReport.ChunkStats stats = new PostImportReport.ChunkStats(
+                chunkNumber, chunk.size(), elapsedMs, chunk.size() * 1000L / elapsedMs);
+        run.report.getChunks().add(stats);
+        run.report.setImported(run.report.getImported() + chunk.size());
+        log.info("Imported chunk {}: {} posts in {} ms ({} posts/s)",
+                stats.chunk(), stats.rows(), stats.elapsedMs(), stats.rowsPerSecond());
+    }
+
+    // Keyed by the name as the record gives it; names differing only in case resolve to the same category
+    private void resolveCategories(List<PostImportRecord> chunk, ImportRun run, Map<String, UUID> ids) {
+        Set<String> missing = new HashSet<>();
+        for (PostImportRecord record : chunk) {
+            resolveKnown(record.getCategory(), run.categoryIds, ids, missing);
+        }
+        resolveNames(SELECT_CATEGORIES, INSERT_CATEGORY, missing, ids);
+    }
+
+    private void resolveTags(List<PostImportRecord> chunk, ImportRun run, Map<String, UUID> ids) {
+        Set<String> missing = new HashSet<>();
+        for (PostImportRecord record : chunk) {
+            for (String tag : record.getTags()) {
+                resolveKnown(tag, run.tagIds, ids, missing);
+            }
+        }
+        resolveNames(SELECT_TAGS, INSERT_TAG, missing, ids);
+    }
+
+    private static void resolveKnown(String name, Map<String, UUID> known, Map<String, UUID> ids, Set<String> missing) {
+        UUID id = known.get(name);
+        if (id != null) {
+            ids.put(name, id);
+        } else {
+            missing.add(name);
+        }
+    }
+
+    // Looks the names up, inserts the ones not found and looks those up again; the second read also picks up rows
+    // that a concurrent insert won, whose ids are not the ones generated here
+    private void resolveNames(String select, String insert, Set<String> missing, Map<String, UUID> ids) {
+        if (missing.isEmpty()) {
+            return;
+        }
+        readIds(select, missing, ids);
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insert, missing.stream()
+                .map(name -> new Object[]{BaseEntity.generateId(), name})
+                .toList());
+        readIds(select, missing, ids);
+    }
+
+    private void readIds(String select, Set<String> missing, Map<String, UUID> ids) {
+        List<Object[]> names = missing.stream().map(name -> new Object[]{name}).toList();
+        namedParameterJdbcTemplate.query(select, Map.of("names", names), rs -> {
+            String name = rs.getString("name");
+            ids.put(name, rs.getObject("id", UUID.class));
+            missing.remove(name);
+        });
+    }
+
+    private static final class ImportRun {
+        private final PostImportReport report = PostImportReport.builder().build();
+        private final Map<String, UUID> categoryIds = new HashMap<>();
+        private final Map<String, UUID> tagIds = new HashMap<>();
+        private int failedChunks;
+
+        private void reject(String error) {
+            report.setRejected(report.getRejected() + 1);
+            addError(error);
+        }
+
+        private void addError(String error) {
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostSnapshot;
+import com.learning.blog.exception.ResourceNotFoundException;
+import com.learning.blog.mapper.PostMapper;
+import com.learning.blog.model.BaseEntity;
+import com.learning.blog.model.Category;
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.User;
+import com.learning.blog.model.dtos.CreatePostRequest;
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.PostDto;
+import com.learning.blog.model.dtos.PostSearchResultDto;
+import com.learning.blog.model.dtos.PostSummaryDto;
+import com.learning.blog.model.dtos.PostTagName;
+import com.learning.blog.model.dtos.UpdatePostRequest;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.repository.projection.PostSearchRow;
+import com.learning.blog.service.PostService;
+import com.learning.blog.util.CreatedAtCursor;
+import com.learning.blog.util.Cursors;
+import com.learning.blog.util.WordCounter;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostServiceImpl implements PostService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostViewCounter postViewCounter;
+
+    @Override
+    public CursorPage<PostSummaryDto> getPublishedFeed(String cursor, int size) {
+        log.debug("Fetching published feed after cursor: {}", cursor);
+
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeed(PostStatus.PUBLISHED, limit);
+        } else {
+            CreatedAtCursor feedCursor = CreatedAtCursor.decode(cursor);
+            posts = postRepository.findFeedAfter(PostStatus.PUBLISHED, feedCursor.createdAt(), feedCursor.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<PostSummaryDto> items = hasNext ? posts.subList(0, pageSize) : posts;
+        Map<UUID, Set<String>> tagsByPost = findTagNames(items.stream().map(PostSummaryDto::getId).toList());
+        items.forEach(post -> post.setTags(tagsByPost.getOrDefault(post.getId(), Set.of())));
+
+        PostSummaryDto last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return CursorPage.<PostSummaryDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
+    @Override
+    public PostDto getPublishedPost(UUID id) {
+        log.debug("Fetching published post with id: {}", id);
+
+        PostDto post = postRepository.findByIdAndStatus(id, PostStatus.PUBLISHED)
+                .map(postMapper::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
+
+        postViewCounter.recordView(id);
+        post.setViewCount(post.getViewCount() + postViewCounter.unflushedViews(id));
+        return post;
+    }
+
+    @Override
+    public CursorPage<PostSearchResultDto> searchPublishedPosts(String query, String cursor, int size) {
+        log.debug("Searching published posts for: {}", query);
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<PostSearchRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = postRepository.search(query, pageSize + 1);
+        } else {
+            SearchCursor searchCursor = SearchCursor.decode(cursor);
+            rows = postRepository.searchAfter(query, searchCursor.rank(), searchCursor.id(), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSearchRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<UUID, Set<String>> tagsByPost = findTagNames(pageRows.stream().map(PostSearchRow::getId).toList());
+
+        List<PostSearchResultDto> items = pageRows.stream()
+                .map(row -> PostSearchResultDto.builder()
+                        .id(row.getId())
+                        .title(row.getTitle())
+                        .authorName(row.getAuthorName())
+                        .categoryName(row.getCategoryName())
+                        .tags(tagsByPost.getOrDefault(row.getId(), Set.of()))
+                        .readingTime(row.getReadingTime())
+                        .createdAt(row.getCreatedAt())
+                        .snippet(row.getSnippet())
+                        .rank(row.getRank())
+                        .build())
+                .toList();
+
+        PostSearchResultDto last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return CursorPage.<PostSearchResultDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new SearchCursor(last.getRank(), last.getId()).encode() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public PostDto createPost(CreatePostRequest createPostRequest, UUID authorId) {
+        log.debug("Creating post for author with id: {}", authorId);
+
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + authorId));
+
+        Post post = Post.builder()
+                .title(createPostRequest.getTitle())
+                .content(createPostRequest.getContent())
+                .status(createPostRequest.getStatus() == null ? PostStatus.DRAFT : createPostRequest.getStatus())
+                .author(author)
+                .category(findCategory(createPostRequest.getCategoryId()))
+                .tags(resolveTags(createPostRequest.getTags()))
+                .build();
+        applyContentStats(post);
+
+        Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.created(PostSnapshot.of(savedPost)));
+
+        log.debug("Post created successfully with id: {}", savedPost.getId());
+        return postMapper.toDto(savedPost);
+    }
+
+    @Override
+    @Transactional
+    public PostDto updatePost(UUID id, UpdatePostRequest updatePostRequest, UUID userId) {
+        log.debug("Updating post with id: {}", id);
+
+        Post post = findEditablePost(id, userId);
+        PostSnapshot before = PostSnapshot.of(post);
+
+        // Counting words walks the whole body, so it only happens when the body actually changed
+        if (!post.getContent().equals(updatePostRequest.getContent())) {
+            post.setContent(updatePostRequest.getContent());
+            applyContentStats(post);
+        }
+        post.setTitle(updatePostRequest.getTitle());
+        post.setStatus(updatePostRequest.getStatus());
+        if (!post.getCategory().getId().equals(updatePostRequest.getCategoryId())) {
+            post.setCategory(findCategory(updatePostRequest.getCategoryId()));
+        }
+        Set<Tag> tags = resolveTags(updatePostRequest.getTags());
+        if (!before.tagNames().equals(tagNames(tags))) {
+            post.getTags().clear();
+            post.getTags().addAll(tags);
+        }
+
+        Post updatedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(before, PostSnapshot.of(updatedPost)));
+
+        log.debug("Post updated successfully with id: {}", id);
+        return postMapper.toDto(updatedPost);
+    }
+
+    @Override
+    @Transactional
+    public void deletePost(UUID id, UUID userId) {
+        log.debug("Deleting post with id: {}", id);
+
+        Post post = findEditablePost(id, userId);
+        PostSnapshot before = PostSnapshot.of(post);
+
+        postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(before));
+
+        log.debug("Post deleted successfully with id: {}", id);
+    }
+
+    private Post findEditablePost(UUID id, UUID userId) {
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + id));
+
+        if (!post.getAuthor().getId().equals(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+            if (user.getRole() != UserRole.ADMIN) {
+                throw new AccessDeniedException("Only the author or an admin can modify post " + id);
+            }
+        }
+        return post;
+    }
+
+    private Category findCategory(UUID categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
+    }
+
+    private Set<Tag> resolveTags(Set<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<String> normalized = names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        Set<Tag> tags = new HashSet<>(tagRepository.findByNameIn(normalized));
+        Set<String> missing = new HashSet<>(normalized);
+        missing.removeAll(tagNames(tags));
+        if (!missing.isEmpty()) {
+            // Posts created at the same time may bring the same new tag; whichever insert loses skips the row,
+            // and every post then links to the one that was created
+            missing.forEach(name -> tagRepository.insertIfNameAbsent(BaseEntity.generateId(), name));
+            tags.addAll(tagRepository.findByNameIn(missing));
+        }
+        return tags;
+    }
+
+    private Set<String> tagNames(Set<Tag> tags) {
+        return tags.stream().map(Tag::getName).collect(Collectors.toSet());
+    }
+
+    private void applyContentStats(Post post) {
+        int words = WordCounter.count(post.getContent());
+        post.setWordCount(words);
+        post.setReadingTime(WordCounter.readingTimeMinutes(words));
+    }
+
+    private Map<UUID, Set<String>> findTagNames(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findTagNames(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagName::postId,
+                        Collectors.mapping(PostTagName::tagName, Collectors.toCollection(TreeSet::new))));
+    }
+
+    private record SearchCursor(float rank, UUID id) {
+
+        String encode() {
+            return Cursors.encode(rank, id);
+        }
+
+        static SearchCursor decode(String cursor) {
+            String[] parts = Cursors.decode(cursor);
+            try {
+                return new SearchCursor(Float.parseFloat(parts[0]), UUID.fromString(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostSnapshot;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.dtos.PopularTagDto;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.TagStatRepository;
+import com.learning.blog.repository.projection.TagStatRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// Published post counts per tag, overall and per category, held in memory so the popular-tags endpoint only ranks
+// counters. Post events bump striped LongAdders; the same deltas are queued and flushed to tag_stats in the
+// background, which is where the counters are reloaded from on startup. Loading, recounting and flushing do database
+// I/O, so they are serialized with a ReentrantLock rather than synchronized, which would pin a virtual thread's
+// carrier while it waits. Loading and recounting also take the write side of countersLock, which keeps post writes
+// out from before their commit until their delta is queued: a recount sees a post only if its delta is pending.
+@Component
+@Slf4j
+public class TagPopularityCounters {
+
+    private final TagStatRepository tagStatRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<String, LongAdder> overall = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Map<String, LongAdder>> byCategory = new ConcurrentHashMap<>();
+    private final Map<PendingKey, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantReadWriteLock countersLock = new ReentrantReadWriteLock();
+
+    public TagPopularityCounters(TagStatRepository tagStatRepository,
+                                 TagRepository tagRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.tagStatRepository = tagStatRepository;
+        this.tagRepository = tagRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<PopularTagDto> top(UUID categoryId, int limit) {
+        Map<String, LongAdder> counters = categoryId == null ? overall : byCategory.get(categoryId);
+        if (counters == null) {
+            return List.of();
+        }
+
+        // Keep the `limit` highest counts; the head of the queue is the weakest one kept so far
+        PriorityQueue<PopularTagDto> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        counters.forEach((name, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                best.add(new PopularTagDto(name, count));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        });
+
+        List<PopularTagDto> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    // Deltas not flushed yet are added on top of the rows, as they will be in the table once flushed
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        countersLock.writeLock().lock();
+        try {
+            Map<String, LongAdder> loadedOverall = new ConcurrentHashMap<>();
+            Map<UUID, Map<String, LongAdder>> loadedByCategory = new ConcurrentHashMap<>();
+            List<TagStatRow> rows = tagStatRepository.findAllRows();
+            for (TagStatRow row : rows) {
+                addTo(loadedOverall, loadedByCategory, new PendingKey(row.getCategoryId(), row.getTagName()),
+                        row.getPostCount());
+            }
+            pending.forEach((key, counter) -> addTo(loadedOverall, loadedByCategory, key, counter.sum()));
+            overall = loadedOverall;
+            byCategory = loadedByCategory;
+            log.debug("Tag popularity counters loaded from {} rows", rows.size());
+        } finally {
+            countersLock.writeLock().unlock();
+            lock.unlock();
+        }
+    }
+
+    // Runs before the commit and holds the read lock until the transaction completes; the delta is only applied
+    // once it has committed
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Map<PendingKey, Long> deltas = deltas(event);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        countersLock.readLock().lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                deltas.forEach(this::add);
+            } finally {
+                countersLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        deltas.forEach(TagPopularityCounters.this::add);
+                    }
+                } finally {
+                    countersLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    // Posts written in bulk bypass JPA and publish no PostChangedEvent, so recount them in the database and reload.
+    // Every committed post write has queued its delta by now and none can queue one until the reload, so the
+    // recount covers all pending deltas and they are dropped.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        lock.lock();
+        countersLock.writeLock().lock();
+        try {
+            Integer rows = transactionTemplate.execute(status -> {
+                tagStatRepository.deleteAllRows();
+                return tagStatRepository.recountFromPosts();
+            });
+            pending.clear();
+            log.info("Tag stats recounted after a bulk change of {} posts: {} rows", event.posts(), rows);
+            load();
+        } finally {
+            countersLock.writeLock().unlock();
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${tags.popular.flush-interval:30000}")
+    public void flush() {
+        lock.lock();
+        try {
+            Map<PendingKey, Long> deltas = new HashMap<>();
+            pending.forEach((key, counter) -> {
+                long delta = counter.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(key, delta);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(deltas));
+                log.debug("Flushed {} tag stat deltas", deltas.size());
+            } catch (RuntimeException e) {
+                // Put the deltas back so the next flush retries them
+                deltas.forEach((key, delta) -> pending.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+                log.warn("Failed to flush {} tag stat deltas", deltas.size(), e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Map<PendingKey, Long> deltas) {
+        Set<String> names = deltas.keySet().stream().map(PendingKey::tagName).collect(Collectors.toSet());
+        Map<String, UUID> tagIds = tagRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Tag::getName, Tag::getId));
+
+        deltas.forEach((key, delta) -> {
+            UUID tagId = tagIds.get(key.tagName());
+            if (tagId != null) {
+                tagStatRepository.addToPostCount(tagId, key.categoryId(), delta);
+            }
+        });
+    }
+
+    private void add(PendingKey key, long delta) {
+        addTo(overall, byCategory, key, delta);
+        pending.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private static void addTo(Map<String, LongAdder> overall, Map<UUID, Map<String, LongAdder>> byCategory,
+                              PendingKey key, long delta) {
+        overall.computeIfAbsent(key.tagName(), name -> new LongAdder()).add(delta);
+        byCategory.computeIfAbsent(key.categoryId(), id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key.tagName(), name -> new LongAdder()).add(delta);
+    }
+
+    private static Map<PendingKey, Long> deltas(PostChangedEvent event) {
+        Set<PendingKey> before = publishedKeys(event.before());
+        Set<PendingKey> after = publishedKeys(event.after());
+        Map<PendingKey, Long> deltas = new HashMap<>();
+        for (PendingKey key : after) {
+            if (!before.contains(key)) {
+                deltas.put(key, 1L);
+            }
+        }
+        for (PendingKey key : before) {
+            if (!after.contains(key)) {
+                deltas.put(key, -1L);
+            }
+        }
+        return deltas;
+    }
+
+    private static Set<PendingKey> publishedKeys(PostSnapshot post) {
+        if (post == null || !post.isPublished() || post.categoryId() == null) {
+            return Set.of();
+        }
+        return post.tagNames().stream()
+                .map(name -> new PendingKey(post.categoryId(), name))
+                .collect(Collectors.toSet());
+    }
+
+    private static final Comparator<PopularTagDto> RANKING = Comparator
+            .comparingLong(PopularTagDto::getPostCount).reversed()
+            .thenComparing(PopularTagDto::getName);
+
+    private record PendingKey(UUID categoryId, String tagName) {}
+}
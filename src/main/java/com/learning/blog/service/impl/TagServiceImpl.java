@@ -0,0 +1,30 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.model.dtos.PopularTagDto;
+import com.learning.blog.model.dtos.TagSuggestionDto;
+import com.learning.blog.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TagServiceImpl implements TagService {
+
+    private static final int MAX_POPULAR_TAGS = 100;
+
+    private final TagSuggestionIndex tagSuggestionIndex;
+    private final TagPopularityCounters tagPopularityCounters;
+
+    @Override
+    public List<TagSuggestionDto> suggestTags(String prefix, int limit) {
+        return tagSuggestionIndex.suggest(prefix, Math.clamp(limit, 1, TagSuggestionIndex.MAX_SUGGESTIONS));
+    }
+
+    @Override
+    public List<PopularTagDto> getPopularTags(UUID categoryId, int limit) {
+        return tagPopularityCounters.top(categoryId, Math.clamp(limit, 1, MAX_POPULAR_TAGS));
+    }
+}
@@ -0,0 +1,168 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostSnapshot;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.model.dtos.TagSuggestionDto;
+import com.learning.blog.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// All tag names with their published post counts, kept sorted in memory so a prefix is a range lookup: O(log n) to
+// find the start of the range, then a scan of only the matching names. One or two characters match a large share
+// of all tags, which is what a user types first, so the best matches for those prefixes are kept ranked and only
+// re-ranked when a count under them changes. Post writes adjust counts and add new tags in place; a periodic
+// rebuild from the database corrects anything written behind JPA's back, such as cascaded deletes.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagSuggestionIndex {
+
+    static final int MAX_SUGGESTIONS = 20;
+    private static final int SHORT_PREFIX_LENGTH = 2;
+
+    private final TagRepository tagRepository;
+
+    private volatile Index index = new Index();
+
+    public List<TagSuggestionDto> suggest(String prefix, int limit) {
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Index current = index;
+        List<Entry> ranked = key.length() <= SHORT_PREFIX_LENGTH && limit <= MAX_SUGGESTIONS
+                ? current.shortPrefixes.getOrDefault(key, List.of())
+                : best(current.tags, key, limit);
+        return ranked.stream()
+                .limit(limit)
+                .map(entry -> new TagSuggestionDto(entry.name, entry.posts.get()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tags.suggest.rebuild-interval:600000}",
+            initialDelayString = "${tags.suggest.rebuild-interval:600000}")
+    public void rebuild() {
+        Index rebuilt = new Index();
+        for (TagSuggestionDto tag : tagRepository.findAllWithPostCount()) {
+            rebuilt.tags.put(key(tag.getName()), new Entry(tag.getName(), tag.getPostCount()));
+        }
+        Set<String> prefixes = new HashSet<>();
+        for (String key : rebuilt.tags.keySet()) {
+            prefixes.addAll(shortPrefixes(key));
+        }
+        prefixes.forEach(rebuilt::rank);
+        index = rebuilt;
+        log.debug("Tag suggestion index rebuilt with {} tags", rebuilt.tags.size());
+    }
+
+    // Only published posts are counted, so a draft adds its new tags with no posts and publishing counts them
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Set<String> all = event.after() == null ? Set.of() : event.after().tagNames();
+        Set<String> before = published(event.before());
+        Set<String> after = published(event.after());
+        Index current = index;
+        for (String name : all) {
+            Entry entry = current.tags.computeIfAbsent(key(name), k -> new Entry(name, 0));
+            if (after.contains(name) && !before.contains(name)) {
+                entry.posts.incrementAndGet();
+            }
+        }
+        for (String name : before) {
+            if (!after.contains(name)) {
+                Entry entry = current.tags.get(key(name));
+                if (entry != null) {
+                    entry.posts.updateAndGet(count -> Math.max(0, count - 1));
+                }
+            }
+        }
+        // A new tag can enter a prefix's list even without posts, while the prefix has fewer tags than the limit
+        Set<String> prefixes = new HashSet<>();
+        for (String name : all) {
+            prefixes.addAll(shortPrefixes(key(name)));
+        }
+        for (String name : before) {
+            prefixes.addAll(shortPrefixes(key(name)));
+        }
+        prefixes.forEach(current::rank);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsBulkChanged(PostsBulkChangedEvent event) {
+        rebuild();
+    }
+
+    private static Set<String> published(PostSnapshot post) {
+        return post != null && post.isPublished() ? post.tagNames() : Set.of();
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> shortPrefixes(String key) {
+        List<String> prefixes = new ArrayList<>(SHORT_PREFIX_LENGTH);
+        for (int length = 1; length <= Math.min(SHORT_PREFIX_LENGTH, key.length()); length++) {
+            prefixes.add(key.substring(0, length));
+        }
+        return prefixes;
+    }
+
+    // The `limit` most used names starting with the key; the head of the queue is the weakest one kept so far
+    private static List<Entry> best(ConcurrentSkipListMap<String, Entry> tags, String key, int limit) {
+        PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Entry entry : tags.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            best.add(entry);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry entry) -> entry.posts.get()).reversed()
+            .thenComparing(entry -> entry.name);
+
+    // Keyed by lower-cased name so suggestions ignore case. A rebuild swaps in a new index as a whole.
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, Entry> tags = new ConcurrentSkipListMap<>();
+        private final Map<String, List<Entry>> shortPrefixes = new ConcurrentHashMap<>();
+
+        // Re-ranking one prefix scans its range once; concurrent writes under the same prefix may each do it,
+        // and whichever finishes last reads the latest counts
+        private void rank(String prefix) {
+            List<Entry> ranked = best(tags, prefix, MAX_SUGGESTIONS);
+            if (ranked.isEmpty()) {
+                shortPrefixes.remove(prefix);
+            } else {
+                shortPrefixes.put(prefix, List.copyOf(ranked));
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final AtomicLong posts;
+
+        private Entry(String name, long posts) {
+            this.name = name;
+            this.posts = new AtomicLong(posts);
+        }
+    }
+}
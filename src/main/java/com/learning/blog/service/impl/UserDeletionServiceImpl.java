@@ -0,0 +1,76 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.event.UserDeletionRequestedEvent;
+import com.learning.blog.exception.ResourceNotFoundException;
+import com.learning.blog.model.UserDeletionJob;
+import com.learning.blog.model.dtos.UserDeletionJobDto;
+import com.learning.blog.model.enums.DeletionJobStatus;
+import com.learning.blog.repository.UserDeletionJobRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.UserPrincipalCache;
+import com.learning.blog.service.UserDeletionService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDeletionServiceImpl implements UserDeletionService {
+
+    private final UserDeletionJobRepository userDeletionJobRepository;
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Returns the active job if there is one; disabling the user first serializes concurrent requests
+    @Override
+    @Transactional
+    public UserDeletionJobDto requestDeletion(UUID userId) {
+        userRepository.disableById(userId);
+        userPrincipalCache.evict(userId);
+
+        UserDeletionJob job = userDeletionJobRepository
+                .findFirstByUserIdAndStatusIn(userId, EnumSet.of(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING))
+                .orElseGet(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    UserDeletionJob created = userDeletionJobRepository.save(UserDeletionJob.builder()
+                            .userId(userId)
+                            .status(DeletionJobStatus.PENDING)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                    eventPublisher.publishEvent(new UserDeletionRequestedEvent(created.getId()));
+                    log.info("Scheduled deletion of user {} as job {}", userId, created.getId());
+                    return created;
+                });
+
+        return toDto(job);
+    }
+
+    @Override
+    public UserDeletionJobDto getJob(UUID jobId) {
+        return userDeletionJobRepository.findById(jobId)
+                .map(UserDeletionServiceImpl::toDto)
+                .orElseThrow(() -> new ResourceNotFoundException("User deletion job not found with id: " + jobId));
+    }
+
+    private static UserDeletionJobDto toDto(UserDeletionJob job) {
+        return UserDeletionJobDto.builder()
+                .id(job.getId())
+                .userId(job.getUserId())
+                .status(job.getStatus())
+                .postsDeleted(job.getPostsDeleted())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .lastError(job.getLastError())
+                .build();
+    }
+}
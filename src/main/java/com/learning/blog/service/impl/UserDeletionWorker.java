@@ -0,0 +1,194 @@
+package com.learning.blog.service.impl;
+
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.event.UserChangedEvent;
+import com.learning.blog.event.UserDeletionRequestedEvent;
+import com.learning.blog.model.UserDeletionJob;
+import com.learning.blog.model.enums.DeletionJobStatus;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.UserDeletionJobRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.UserPrincipalCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Deletes a user's posts in batches of short transactions, then the user; interrupted jobs are resumed
+@Component
+@Slf4j
+public class UserDeletionWorker {
+
+    private final UserDeletionJobRepository userDeletionJobRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter postsDeleted;
+    private final Counter jobsCompleted;
+    private final Counter jobsFailed;
+    private final Timer batchTimer;
+    private final AtomicInteger activeJobs = new AtomicInteger();
+
+    private volatile boolean stopping;
+
+    @Value("${users.deletion.batch-size:1000}")
+    private int batchSize;
+    @Value("${users.deletion.stale-after:300000}")
+    private long staleAfterInMs;
+
+    public UserDeletionWorker(UserDeletionJobRepository userDeletionJobRepository,
+                              PostRepository postRepository,
+                              UserRepository userRepository,
+                              UserPrincipalCache userPrincipalCache,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.userDeletionJobRepository = userDeletionJobRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // One worker thread; a wake-up while it runs queues a single follow-up pass and any more are redundant
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                Thread.ofPlatform().name("user-deletion").factory(), new ThreadPoolExecutor.DiscardPolicy());
+
+        this.postsDeleted = Counter.builder("users.deletion.posts")
+                .description("Posts removed by user deletion jobs")
+                .register(meterRegistry);
+        this.jobsCompleted = Counter.builder("users.deletion.jobs")
+                .tag("result", "completed")
+                .register(meterRegistry);
+        this.jobsFailed = Counter.builder("users.deletion.jobs")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("users.deletion.batch")
+                .description("Time to delete one batch of a user's posts")
+                .register(meterRegistry);
+        meterRegistry.gauge("users.deletion.jobs.active", activeJobs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeletionRequested(UserDeletionRequestedEvent event) {
+        wakeUp();
+    }
+
+    // Picks up jobs whose request was missed, such as those left behind by another instance
+    @Scheduled(fixedDelayString = "${users.deletion.poll-interval:30000}")
+    public void wakeUp() {
+        if (!stopping) {
+            executor.execute(this::runClaimableJobs);
+        }
+    }
+
+    public void runClaimableJobs() {
+        UserDeletionJob job;
+        while (!stopping && (job = claimNext()) != null) {
+            run(job);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("User deletion worker did not stop in time; its job will be reclaimed once stale");
+        }
+    }
+
+    private UserDeletionJob claimNext() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<UserDeletionJob> claimable = userDeletionJobRepository.findClaimable(
+                    now.minus(Duration.ofMillis(staleAfterInMs)), Limit.of(1));
+            if (claimable.isEmpty()) {
+                return null;
+            }
+            UserDeletionJob job = claimable.getFirst();
+            job.setStatus(DeletionJobStatus.RUNNING);
+            job.setUpdatedAt(now);
+            return job;
+        });
+    }
+
+    private void run(UserDeletionJob job) {
+        UUID userId = job.getUserId();
+        long deleted = 0;
+        activeJobs.incrementAndGet();
+        try {
+            int batch;
+            do {
+                if (stopping) {
+                    transactionTemplate.executeWithoutResult(status -> finish(job, DeletionJobStatus.PENDING, null));
+                    log.info("User deletion job {} paused after {} posts", job.getId(), deleted);
+                    return;
+                }
+                batch = batchTimer.record(() -> transactionTemplate.execute(status -> deleteBatch(job)));
+                deleted += batch;
+                postsDeleted.increment(batch);
+            } while (batch > 0);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.deleteByIdInBulk(userId);
+                finish(job, DeletionJobStatus.COMPLETED, null);
+            });
+            userPrincipalCache.evict(userId);
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            jobsCompleted.increment();
+            log.info("User deletion job {} deleted user {} and {} posts", job.getId(), userId, deleted);
+        } catch (RuntimeException e) {
+            jobsFailed.increment();
+            log.error("User deletion job {} failed after {} posts", job.getId(), deleted, e);
+            transactionTemplate.executeWithoutResult(status -> finish(job, DeletionJobStatus.FAILED, e.getMessage()));
+        } finally {
+            activeJobs.decrementAndGet();
+            if (deleted > 0) {
+                eventPublisher.publishEvent(new PostsBulkChangedEvent(deleted));
+            }
+        }
+    }
+
+    private int deleteBatch(UserDeletionJob job) {
+        List<UUID> postIds = postRepository.findIdsByAuthorId(job.getUserId(), Limit.of(batchSize));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = postRepository.deleteAllByIdInBulk(postIds);
+        userDeletionJobRepository.recordProgress(job.getId(), deleted, LocalDateTime.now());
+        return deleted;
+    }
+
+    private void finish(UserDeletionJob job, DeletionJobStatus status, String error) {
+        userDeletionJobRepository.findById(job.getId()).ifPresent(current -> {
+            LocalDateTime now = LocalDateTime.now();
+            current.setStatus(status);
+            current.setUpdatedAt(now);
+            current.setFinishedAt(status == DeletionJobStatus.PENDING ? null : now);
+            current.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+        });
+    }
+}
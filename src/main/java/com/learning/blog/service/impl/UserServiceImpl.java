@@ -3,18 +3,29 @@ package com.learning.blog.service.impl;
 import com.learning.blog.exception.ResourceNotFoundException;
 import com.learning.blog.mapper.UserMapper;
 import com.learning.blog.model.User;
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.SlicePage;
+import com.learning.blog.model.dtos.UserDeletionJobDto;
 import com.learning.blog.model.dtos.UserRequest;
 import com.learning.blog.model.dtos.UserResponse;
+import com.learning.blog.model.enums.CountMode;
 import com.learning.blog.model.enums.UserRole;
 import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.UserPrincipalCache;
+import com.learning.blog.service.CountService;
+import com.learning.blog.service.UserDeletionService;
 import com.learning.blog.service.UserService;
+import com.learning.blog.util.CreatedAtCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -22,8 +33,13 @@ import java.util.UUID;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserPrincipalCache userPrincipalCache;
+    private final CountService countService;
+    private final UserDeletionService userDeletionService;
 
     @Override
     public UserResponse getUserById(UUID id) {
@@ -46,20 +62,47 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public Page<UserResponse> getAllUsers(Pageable pageable) {
-        log.debug("Fetching all users with pageable: {}", pageable);
-
-        try {
-            Page<User> users = userRepository.findAll(pageable);
+    public CursorPage<UserResponse> getUsers(String role, Boolean enabled, String cursor, int size) {
+        log.debug("Fetching users with role: {}, enabled: {} after cursor: {}", role, enabled, cursor);
+
+        UserRole userRole = role == null || role.isBlank() ? null : parseUserRole(role);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<UserResponse> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findUsers(userRole, enabled, limit);
+        } else {
+            CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+            users = userRepository.findUsersAfter(userRole, enabled, position.createdAt(), position.id(), limit);
+        }
 
-            return users.map(userMapper::toResponse);
+        boolean hasNext = users.size() > pageSize;
+        List<UserResponse> items = hasNext ? users.subList(0, pageSize) : users;
+        UserResponse last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return CursorPage.<UserResponse>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("Unexpected error while fetching users: {}", e.getMessage(), e);
-            throw new RuntimeException("An unexpected error occurred while retrieving users", e);
-        }
+    @Override
+    public SlicePage<UserResponse> getUserSlice(String role, Boolean enabled, int page, int size) {
+        log.debug("Fetching user slice {} with role: {}, enabled: {}", page, role, enabled);
+
+        UserRole userRole = role == null || role.isBlank() ? null : parseUserRole(role);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE));
+        Slice<UserResponse> users = userRepository.findUserSlice(userRole, enabled, pageable);
+
+        return SlicePage.<UserResponse>builder()
+                .items(users.getContent())
+                .page(users.getNumber())
+                .hasNext(users.hasNext())
+                .build();
     }
 
+
     @Override
     @Transactional
     public UserResponse updateUser(UUID id, UserRequest userRequest) {
@@ -74,6 +117,8 @@ public class UserServiceImpl implements UserService {
                 throw new IllegalArgumentException("Email already exists: " + userRequest.getEmail());
             }
 
+            userPrincipalCache.evict(existingUser.getEmail());
+
             existingUser.setName(userRequest.getName());
             existingUser.setEmail(userRequest.getEmail());
             existingUser.setRole(userRequest.getRole());
@@ -104,6 +149,7 @@ public class UserServiceImpl implements UserService {
             existingUser.setRole(userRole);
 
             User updatedUser = userRepository.save(existingUser);
+            userPrincipalCache.evict(updatedUser.getEmail());
 
             log.debug("User role updated successfully for id: {}", id);
             return userMapper.toResponse(updatedUser);
@@ -130,7 +176,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public void deleteUser(UUID id) {
+    public UserDeletionJobDto deleteUser(UUID id) {
         log.debug("Deleting user with id: {}", id);
 
         try {
@@ -138,8 +184,7 @@ public class UserServiceImpl implements UserService {
                 throw new ResourceNotFoundException("User not found with id: " + id);
             }
 
-            userRepository.deleteById(id);
-            log.debug("User deleted successfully with id: {}", id);
+            return userDeletionService.requestDeletion(id);
 
         } catch (ResourceNotFoundException e) {
             throw e;
@@ -151,15 +196,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public void deleteUserByEmail(String email) {
+    public UserDeletionJobDto deleteUserByEmail(String email) {
         log.debug("Deleting user with email: {}", email);
 
         try {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
 
-            userRepository.delete(user);
-            log.debug("User deleted successfully with email: {}", email);
+            return userDeletionService.requestDeletion(user.getId());
 
         } catch (ResourceNotFoundException e) {
             throw e;
@@ -174,7 +218,7 @@ public class UserServiceImpl implements UserService {
         log.debug("Getting total users count");
 
         try {
-            return userRepository.count();
+            return countService.countUsers(CountMode.EXACT);
         } catch (Exception e) {
             log.error("Unexpected error while getting users count");
             throw new RuntimeException("An unexpected error occurred while counting users", e);
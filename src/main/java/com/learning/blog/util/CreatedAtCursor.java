@@ -0,0 +1,21 @@
+package com.learning.blog.util;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Position in a listing ordered by created_at DESC, id DESC
+public record CreatedAtCursor(LocalDateTime createdAt, UUID id) {
+
+    public String encode() {
+        return Cursors.encode(createdAt, id);
+    }
+
+    public static CreatedAtCursor decode(String cursor) {
+        String[] parts = Cursors.decode(cursor);
+        try {
+            return new CreatedAtCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.learning.blog.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset cursors are the sort key of the last row served, as "first,second" in URL-safe Base64
+public final class Cursors {
+
+    private Cursors() {
+    }
+
+    public static String encode(Object first, Object second) {
+        String raw = first + "," + second;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(',');
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
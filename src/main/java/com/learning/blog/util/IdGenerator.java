@@ -0,0 +1,9 @@
+package com.learning.blog.util;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+}
@@ -0,0 +1,44 @@
+package com.learning.blog.util;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 version 7 UUIDs: 48 bits of Unix epoch milliseconds, then a 12 bit counter in rand_a (method 1),
+// then 62 random bits. Ids from one generator are strictly increasing, even within a millisecond or when the
+// clock steps back, so inserts append to the right edge of the primary key index instead of splitting pages
+// all over it. A counter overflow borrows the next millisecond, as the RFC allows.
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    // New milliseconds start the counter in its lower half so there is room left for ids within that millisecond
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+
+    private final Clock clock;
+    // Timestamp in the upper bits and counter in the lower 12 bits of the last id handed out
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long seeded = (clock.millis() << COUNTER_BITS) | random.nextInt(COUNTER_SEED_BOUND);
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(
+                last -> (last >>> COUNTER_BITS) >= (seeded >>> COUNTER_BITS) ? last + 1 : seeded);
+
+        long mostSigBits = ((timestampAndCounter >>> COUNTER_BITS) << 16)
+                | 0x7000L
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,34 @@
+package com.learning.blog.util;
+
+public final class WordCounter {
+
+    public static final int WORDS_PER_MINUTE = 200;
+
+    private WordCounter() {
+    }
+
+    // Single pass over the characters without allocating: a word starts at the first letter or digit after
+    // whitespace, so punctuation inside a word ("don't", "well-known") does not split it and stray symbols
+    // do not count as words.
+    public static int count(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c <= ' ' || Character.isWhitespace(c)) {
+                inWord = false;
+            } else if (!inWord && (Character.isLetterOrDigit(c) || Character.isSurrogate(c))) {
+                inWord = true;
+                words++;
+            }
+        }
+        return words;
+    }
+
+    public static int readingTimeMinutes(int words) {
+        return Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+}
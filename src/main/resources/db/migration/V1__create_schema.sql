@@ -0,0 +1,76 @@
+-- Baseline schema. Written to be idempotent so databases previously created by ddl-auto=update converge
+-- on it: tables, constraint names and column types match what Hibernate generated for them.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                uuid         NOT NULL PRIMARY KEY,
+    email             varchar(255) NOT NULL UNIQUE,
+    name              varchar(255) NOT NULL,
+    password          varchar(255) NOT NULL,
+    role              varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    is_enabled        boolean      NOT NULL,
+    verification_code varchar(255),
+    expiration_time   timestamp(6),
+    created_at        timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id   uuid         NOT NULL PRIMARY KEY,
+    name varchar(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS tags (
+    id   uuid         NOT NULL PRIMARY KEY,
+    name varchar(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS posts (
+    id           uuid         NOT NULL PRIMARY KEY,
+    title        varchar(255) NOT NULL,
+    content      text         NOT NULL,
+    status       varchar(255) NOT NULL CHECK (status IN ('DRAFT', 'PUBLISHED')),
+    reading_time integer      NOT NULL,
+    word_count   integer      NOT NULL DEFAULT 0,
+    author_id    uuid         NOT NULL,
+    category_id  uuid         NOT NULL,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS post_tags (
+    post_id uuid NOT NULL,
+    tag_id  uuid NOT NULL,
+    PRIMARY KEY (post_id, tag_id)
+);
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              uuid          NOT NULL PRIMARY KEY,
+    recipient       varchar(255)  NOT NULL,
+    subject         varchar(255)  NOT NULL,
+    body            text          NOT NULL,
+    status          varchar(255)  NOT NULL CHECK (status IN ('PENDING', 'SENT', 'FAILED')),
+    attempts        integer       NOT NULL,
+    next_attempt_at timestamp(6)  NOT NULL,
+    last_error      varchar(1000),
+    created_at      timestamp(6)  NOT NULL,
+    sent_at         timestamp(6)
+);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk6xvn0811tkyo3nfjk2xvqx6ns') THEN
+        ALTER TABLE posts ADD CONSTRAINT fk6xvn0811tkyo3nfjk2xvqx6ns FOREIGN KEY (author_id) REFERENCES users;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fkijnwr3brs8vaosl80jg9rp7uc') THEN
+        ALTER TABLE posts ADD CONSTRAINT fkijnwr3brs8vaosl80jg9rp7uc FOREIGN KEY (category_id) REFERENCES categories;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fkkifam22p4s1nm3bkmp1igcn5w') THEN
+        ALTER TABLE post_tags ADD CONSTRAINT fkkifam22p4s1nm3bkmp1igcn5w FOREIGN KEY (post_id) REFERENCES posts;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fkm6cfovkyqvu5rlm6ahdx3eavj') THEN
+        ALTER TABLE post_tags ADD CONSTRAINT fkm6cfovkyqvu5rlm6ahdx3eavj FOREIGN KEY (tag_id) REFERENCES tags;
+    END IF;
+END
+$$;
+
+-- Published feed: WHERE status = ? ORDER BY created_at DESC, id DESC with a keyset on (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_posts_status_created_at_id ON posts (status, created_at, id);
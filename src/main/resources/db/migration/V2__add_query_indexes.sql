@@ -0,0 +1,18 @@
+-- Indexes for the repository queries that ddl-auto never created
+
+-- A user's posts (author pages, deleting a user) and the posts FK checked on user delete
+CREATE INDEX IF NOT EXISTS idx_posts_author_id ON posts (author_id);
+
+-- Published post counts per category: LEFT JOIN posts ON category_id = ? AND status = 'PUBLISHED'
+CREATE INDEX IF NOT EXISTS idx_posts_category_id_status ON posts (category_id, status);
+
+-- The primary key (post_id, tag_id) serves lookups by post; this one serves lookups and FK checks by tag
+CREATE INDEX IF NOT EXISTS idx_post_tags_tag_id ON post_tags (tag_id, post_id);
+
+-- existsByNameIgnoreCase compiles to upper(name) = upper(?), and the index also makes names unique
+-- regardless of case
+CREATE UNIQUE INDEX IF NOT EXISTS uk_categories_name_upper ON categories (upper(name));
+
+-- Outbox polling (status = ? AND next_attempt_at <= ? ORDER BY next_attempt_at) and purging (status = ? AND sent_at < ?)
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_next_attempt_at ON email_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_sent_at ON email_outbox (status, sent_at);
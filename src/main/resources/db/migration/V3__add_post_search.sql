@@ -0,0 +1,72 @@
+-- Full-text search over posts. A generated column cannot read post_tags, so search_vector is kept
+-- up to date by triggers: title is weighted A, tag names B and content C.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+-- tsvector values are limited to 1MB, so only the first 500k characters of the content are indexed
+CREATE OR REPLACE FUNCTION posts_search_vector(p_id uuid, p_title text, p_content text) RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce((
+                SELECT string_agg(t.name, ' ')
+                FROM post_tags pt
+                JOIN tags t ON t.id = pt.tag_id
+                WHERE pt.post_id = p_id), '')), 'B')
+        || setweight(to_tsvector('english', left(coalesce(p_content, ''), 500000)), 'C');
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION posts_search_vector_refresh() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector := posts_search_vector(NEW.id, NEW.title, NEW.content);
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS posts_search_vector_update ON posts;
+CREATE TRIGGER posts_search_vector_update
+    BEFORE INSERT OR UPDATE OF title, content ON posts
+    FOR EACH ROW EXECUTE FUNCTION posts_search_vector_refresh();
+
+CREATE OR REPLACE FUNCTION post_tags_inserted_refresh() RETURNS trigger AS $$
+BEGIN
+    UPDATE posts p SET search_vector = posts_search_vector(p.id, p.title, p.content)
+    WHERE p.id IN (SELECT DISTINCT post_id FROM inserted_rows);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION post_tags_deleted_refresh() RETURNS trigger AS $$
+BEGIN
+    UPDATE posts p SET search_vector = posts_search_vector(p.id, p.title, p.content)
+    WHERE p.id IN (SELECT DISTINCT post_id FROM deleted_rows);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS post_tags_inserted_search_vector_update ON post_tags;
+CREATE TRIGGER post_tags_inserted_search_vector_update
+    AFTER INSERT ON post_tags
+    REFERENCING NEW TABLE AS inserted_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION post_tags_inserted_refresh();
+
+DROP TRIGGER IF EXISTS post_tags_deleted_search_vector_update ON post_tags;
+CREATE TRIGGER post_tags_deleted_search_vector_update
+    AFTER DELETE ON post_tags
+    REFERENCING OLD TABLE AS deleted_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION post_tags_deleted_refresh();
+
+CREATE OR REPLACE FUNCTION tags_renamed_refresh() RETURNS trigger AS $$
+BEGIN
+    UPDATE posts p SET search_vector = posts_search_vector(p.id, p.title, p.content)
+    WHERE p.id IN (SELECT pt.post_id FROM post_tags pt WHERE pt.tag_id = NEW.id);
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tags_renamed_search_vector_update ON tags;
+CREATE TRIGGER tags_renamed_search_vector_update
+    AFTER UPDATE OF name ON tags
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION tags_renamed_refresh();
+
+UPDATE posts SET search_vector = posts_search_vector(id, title, content) WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector);
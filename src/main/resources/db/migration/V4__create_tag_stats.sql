@@ -0,0 +1,16 @@
+-- Published post counts per tag and category, maintained by the application so the popular-tags endpoint never
+-- aggregates post_tags; rows are upserted with deltas in the background
+CREATE TABLE IF NOT EXISTS tag_stats (
+    tag_id      uuid   NOT NULL REFERENCES tags ON DELETE CASCADE,
+    category_id uuid   NOT NULL REFERENCES categories ON DELETE CASCADE,
+    post_count  bigint NOT NULL,
+    PRIMARY KEY (tag_id, category_id)
+);
+
+INSERT INTO tag_stats (tag_id, category_id, post_count)
+SELECT pt.tag_id, p.category_id, COUNT(*)
+FROM post_tags pt
+JOIN posts p ON p.id = pt.post_id
+WHERE p.status = 'PUBLISHED'
+GROUP BY pt.tag_id, p.category_id
+ON CONFLICT (tag_id, category_id) DO NOTHING;
@@ -0,0 +1,2 @@
+-- Written only by the view counter's batched increments; JPA never updates the column
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS view_count bigint NOT NULL DEFAULT 0;
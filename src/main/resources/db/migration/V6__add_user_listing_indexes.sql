@@ -0,0 +1,5 @@
+-- Admin user listing: ORDER BY created_at DESC, id DESC with a keyset on (created_at, id), optionally filtered
+-- by role and enabled status
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_role_is_enabled_created_at_id ON users (role, is_enabled, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_is_enabled_created_at_id ON users (is_enabled, created_at, id);
@@ -0,0 +1,19 @@
+-- Deleting a post removes its tag links with it. The search vector trigger on post_tags then finds the posts
+-- already gone, instead of rebuilding the search vector of every post that is about to be deleted.
+ALTER TABLE post_tags DROP CONSTRAINT IF EXISTS fkkifam22p4s1nm3bkmp1igcn5w;
+ALTER TABLE post_tags ADD CONSTRAINT fk_post_tags_post FOREIGN KEY (post_id) REFERENCES posts ON DELETE CASCADE;
+
+CREATE TABLE IF NOT EXISTS user_deletion_jobs (
+    id            uuid          NOT NULL PRIMARY KEY,
+    user_id       uuid          NOT NULL,
+    status        varchar(255)  NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+    posts_deleted bigint        NOT NULL,
+    created_at    timestamp(6)  NOT NULL,
+    updated_at    timestamp(6)  NOT NULL,
+    finished_at   timestamp(6),
+    last_error    varchar(1000)
+);
+
+-- Claiming work (status, updated_at) and finding the active job of a user
+CREATE INDEX IF NOT EXISTS idx_user_deletion_jobs_status_updated_at ON user_deletion_jobs (status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_user_deletion_jobs_user_id ON user_deletion_jobs (user_id);
@@ -0,0 +1,8 @@
+-- Databases created by ddl-auto=update before word counts were stored already had a posts table, so V1 skipped it
+-- and the column was never added. Existing posts get their count the way WordCounter computes it: every
+-- whitespace-separated token that contains a letter or digit is one word.
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS word_count integer NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET word_count = (SELECT count(*) FROM regexp_split_to_table(p.content, '\s+') AS w(token) WHERE w.token ~ '[[:alnum:]]')
+WHERE p.word_count = 0;
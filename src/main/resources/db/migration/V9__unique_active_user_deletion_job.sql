@@ -0,0 +1,4 @@
+-- At most one pending or running deletion job per user. Requests for the same user already wait on the user row,
+-- which requestDeletion updates first; this keeps a second job out even if that ever changes.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_deletion_jobs_active_user_id
+    ON user_deletion_jobs (user_id) WHERE status IN ('PENDING', 'RUNNING');
@@ -0,0 +1,102 @@
+package com.learning.blog.benchmark;
+
+import com.learning.blog.model.Post;
+import com.learning.blog.model.enums.PostStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Adds freshly loaded 1 MB posts to a HashSet, as Hibernate does when filling Tag.posts, once with the previous
+// content-based equals/hashCode and once with the id-based identity. Every invocation gets new content strings
+// because String caches its hash, and a post read from the database always arrives with an unhashed body.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityIdentityBenchmark {
+
+    private static final int POSTS = 16;
+    private static final int CONTENT_SIZE = 1024 * 1024;
+
+    private String content;
+    private Post[] posts;
+
+    @Setup(Level.Trial)
+    public void createContent() {
+        content = "lorem ipsum ".repeat(CONTENT_SIZE / 12);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadPosts() {
+        posts = new Post[POSTS];
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POSTS; i++) {
+            posts[i] = Post.builder()
+                    .id(UUID.randomUUID())
+                    .title("Post " + i)
+                    .content(new String(content.toCharArray()))
+                    .status(PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public int contentHash() {
+        Set<LegacyIdentity> set = new HashSet<>();
+        for (Post post : posts) {
+            set.add(new LegacyIdentity(post));
+        }
+        return set.size();
+    }
+
+    @Benchmark
+    public int idHash() {
+        Set<Post> set = new HashSet<>();
+        for (Post post : posts) {
+            set.add(post);
+        }
+        return set.size();
+    }
+
+    // The equals/hashCode Post had before identity moved to BaseEntity
+    private record LegacyIdentity(Post post) {
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LegacyIdentity other)) return false;
+            Post that = other.post;
+            return Objects.equals(post.getId(), that.getId()) && Objects.equals(post.getTitle(), that.getTitle())
+                    && Objects.equals(post.getContent(), that.getContent()) && post.getStatus() == that.getStatus()
+                    && Objects.equals(post.getReadingTime(), that.getReadingTime())
+                    && Objects.equals(post.getCreatedAt(), that.getCreatedAt())
+                    && Objects.equals(post.getUpdatedAt(), that.getUpdatedAt());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(post.getId(), post.getTitle(), post.getContent(), post.getStatus(),
+                    post.getReadingTime(), post.getCreatedAt(), post.getUpdatedAt());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityIdentityBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
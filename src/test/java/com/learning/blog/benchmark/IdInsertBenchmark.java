@@ -0,0 +1,69 @@
+package com.learning.blog.benchmark;
+
+import com.learning.blog.util.IdGenerator;
+import com.learning.blog.util.UuidV7Generator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+// Inserts the same number of rows keyed by random v4 and by time-ordered v7 UUIDs into PostgreSQL and prints
+// rows/sec plus the primary key index size. This is a single long run against a real database rather than a
+// JMH microbenchmark, because the effect being measured is index page splits and buffer cache misses.
+//
+// Usage: IdInsertBenchmark [rows] with -Dbench.url, -Dbench.user and -Dbench.password (defaults: the local dev database)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        String url = System.getProperty("bench.url", "jdbc:postgresql://localhost:5432/postgres");
+        String user = System.getProperty("bench.user", "user");
+        String password = System.getProperty("bench.password", "password");
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            run(connection, "id_bench_v4", UUID::randomUUID, rows);
+            run(connection, "id_bench_v7", new UuidV7Generator(), rows);
+        }
+    }
+
+    private static void run(Connection connection, String table, IdGenerator generator, int rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            // Same shape as post_tags plus a payload, so the heap is not the bottleneck
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, created_at timestamp NOT NULL, payload varchar(64))");
+        }
+
+        connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, created_at, payload) VALUES (?, now(), ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, generator.generate());
+                insert.setString(2, "row " + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT pg_relation_size('" + table + "_pkey'), pg_size_pretty(pg_relation_size('" + table + "_pkey'))")) {
+            result.next();
+            System.out.printf("%s: %d rows in %.1f s, %.0f rows/sec, pkey index %s (%d bytes)%n",
+                    table, rows, seconds, rows / seconds, result.getString(2), result.getLong(1));
+        }
+    }
+}
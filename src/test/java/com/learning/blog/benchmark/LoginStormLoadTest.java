@@ -0,0 +1,98 @@
+package com.learning.blog.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Measures GET /api/v1/categories latency on a running instance, first alone and then during a login storm,
+// and prints p50/p99 for both phases together with the status codes the storm received (200/401 reached bcrypt,
+// 503 was shed by the hashing pool). Requests are sent open-loop at a fixed rate, so a slow server does not
+// lower the offered load.
+//
+// Start the application with the login throttle out of the way, e.g.
+//   --auth.login-rate-limit.ip.capacity=100000000 --auth.login-rate-limit.email.capacity=100000000
+// then run: LoginStormLoadTest [baseUrl] [loginsPerSecond] [seconds]   (defaults: http://localhost:8080 500 30)
+public class LoginStormLoadTest {
+
+    private static final int PROBES_PER_SECOND = 20;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int loginsPerSecond = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/categories")).GET().build();
+
+        // Warm up the JIT so the baseline is not dominated by the first requests
+        probe(client, probe, 5, new AtomicBoolean(true));
+        report("baseline", probe(client, probe, seconds, new AtomicBoolean(true)));
+
+        ConcurrentMap<Integer, LongAdder> storm = new ConcurrentHashMap<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / loginsPerSecond;
+        scheduler.scheduleAtFixedRate(() -> {
+            HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"storm" + ThreadLocalRandom.current().nextInt(1000) + "@blog.com\",\"password\":\"wrong-password\"}"))
+                    .build();
+            client.sendAsync(login, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> storm
+                            .computeIfAbsent(error == null ? response.statusCode() : -1, k -> new LongAdder())
+                            .increment());
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        // Give the storm a few seconds to fill the hashing pool before measuring
+        Thread.sleep(3000);
+        List<Long> stormLatencies = probe(client, probe, seconds, running);
+        scheduler.shutdownNow();
+
+        report("login storm", stormLatencies);
+        storm.forEach((status, count) -> System.out.printf("  login status %d: %d%n", status, count.sum()));
+        client.shutdownNow();
+    }
+
+    private static List<Long> probe(HttpClient client, HttpRequest probe, int seconds, AtomicBoolean running)
+            throws InterruptedException {
+        List<CompletableFuture<Long>> pending = new ArrayList<>();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / PROBES_PER_SECOND;
+        long next = System.nanoTime();
+        for (int i = 0; i < seconds * PROBES_PER_SECOND && running.get(); i++) {
+            long start = System.nanoTime();
+            pending.add(client.sendAsync(probe, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> System.nanoTime() - start));
+            next += periodNanos;
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, next - System.nanoTime()));
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (CompletableFuture<Long> future : pending) {
+            latencies.add(future.exceptionally(error -> Long.MAX_VALUE).join());
+        }
+        return latencies;
+    }
+
+    private static void report(String phase, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%s: %d probes, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n", phase, sorted.size(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.getLast() / 1_000_000.0);
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.learning.blog.benchmark;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// What the metrics add to one request, recorded into a Prometheus registry configured like application.yml:
+// the JWT filter timer, the http.server.requests timer looked up by its tags the way the observation handler
+// does it on every request, and one repository invocation. Each includes its two System.nanoTime() calls, which
+// baseline measures on their own. Run main() and read ns/op next to gc.alloc.rate.norm (bytes/op).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private static final Duration[] SLOS = {
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+
+    private PrometheusMeterRegistry registry;
+    private Timer jwtFilterTimer;
+    private Counter counter;
+    private Tags requestTags;
+    private Tags repositoryTags;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        jwtFilterTimer = Timer.builder("auth.jwt.filter")
+                .tag("result", "authenticated")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+        counter = registry.counter("emails.queued", "type", "verification");
+        requestTags = Tags.of("method", "GET", "uri", "/api/v1/posts/{id}", "status", "200",
+                "outcome", "SUCCESS", "exception", "none", "error", "none");
+        repositoryTags = Tags.of("repository", "PostRepository", "method", "findPublishedById",
+                "state", "SUCCESS", "exception", "None");
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public long baseline() {
+        return System.nanoTime() - System.nanoTime();
+    }
+
+    @Benchmark
+    public void jwtFilter() {
+        long start = System.nanoTime();
+        jwtFilterTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void httpServerRequest() {
+        long start = System.nanoTime();
+        requestTimer(false).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // The same timer with client-side percentiles as well, which application.yml leaves off
+    @Benchmark
+    public void httpServerRequestWithPercentiles() {
+        long start = System.nanoTime();
+        requestTimer(true).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void repositoryInvocation() {
+        long start = System.nanoTime();
+        Timer.builder("spring.data.repository.invocations")
+                .tags(repositoryTags)
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void counter() {
+        counter.increment();
+    }
+
+    private Timer requestTimer(boolean percentiles) {
+        Timer.Builder builder = Timer.builder(percentiles ? "http.server.requests.percentiles" : "http.server.requests")
+                .tags(requestTags)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SLOS)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10));
+        if (percentiles) {
+            builder.publishPercentiles(0.5, 0.95, 0.99);
+        }
+        return builder.register(registry);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MetricsOverheadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.learning.blog.benchmark;
+
+import com.learning.blog.BlogApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Starts the application twice, once with platform and once with virtual request threads, adds an endpoint that
+// blocks for 200 ms like a JDBC or SMTP call, and fires a burst of concurrent requests at it. Prints the peak
+// number of requests in flight on the server, the burst duration, and resident memory growth per in-flight
+// request (Linux only; it includes the in-process client, which is the same in both modes).
+//
+// Usage: ThreadModeBenchmark [concurrentRequests]   (default 2000)
+public class ThreadModeBenchmark {
+
+    private static final Duration BLOCKING_CALL = Duration.ofMillis(200);
+    private static final String SLOW_PATH = "/api/v1/categories/benchmark-blocking";
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        // DevTools would restart main() in a new class loader with the application's arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        run(false, requests);
+        run(true, requests);
+    }
+
+    private static void run(boolean virtualThreads, int requests) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        AtomicInteger peakThreads = new AtomicInteger();
+
+        RouterFunction<ServerResponse> blocking = RouterFunctions.route()
+                .GET(SLOW_PATH, request -> {
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    peakThreads.accumulateAndGet(ManagementFactory.getThreadMXBean().getThreadCount(), Math::max);
+                    try {
+                        Thread.sleep(BLOCKING_CALL);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    return ServerResponse.ok().body("done");
+                })
+                .build();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogApplication.class)
+                .profiles("test")
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("benchmarkBlockingRoute", blocking))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.max-connections=20000",
+                        "--server.tomcat.accept-count=20000",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + SLOW_PATH)).build();
+            // Warm up the endpoint and the connection handling
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            System.gc();
+            long rssBefore = residentKilobytes();
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            // Sample memory while the burst is still being served
+            long rssPeak = rssBefore;
+            while (responses.stream().anyMatch(response -> !response.isDone())) {
+                rssPeak = Math.max(rssPeak, residentKilobytes());
+                Thread.sleep(20);
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            long failed = responses.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+
+            System.out.printf("%s threads: %d requests in %d ms (%d failed), peak in flight %d, peak JVM threads %d, "
+                            + "RSS +%d KB (%.1f KB per in-flight request)%n",
+                    virtualThreads ? "virtual" : "platform", requests, elapsedMs, failed, peakInFlight.get(),
+                    peakThreads.get(), rssPeak - rssBefore,
+                    peakInFlight.get() == 0 ? 0.0 : (rssPeak - rssBefore) / (double) peakInFlight.get());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static long residentKilobytes() {
+        try {
+            return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(0L);
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.learning.blog.benchmark;
+
+import com.learning.blog.util.WordCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Compares the streaming word count used on post writes with the split-based count it replaces,
+// over post bodies from 100 KB to 5 MB. Run main() and read us/op next to gc.alloc.rate.norm (bytes/op).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WordCounterBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "post", "platform", "renders", "markdown", "quickly,", "and", "readers", "don't", "wait", "—", "42"
+    };
+
+    @Param({"102400", "1048576", "5242880"})
+    private int size;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(size + 16);
+        while (builder.length() < size) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            builder.append(random.nextInt(20) == 0 ? "\n\n" : " ");
+        }
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public int streaming() {
+        return WordCounter.readingTimeMinutes(WordCounter.count(content));
+    }
+
+    @Benchmark
+    public int split() {
+        int words = content.trim().split("\\s+").length;
+        return (int) Math.ceil(words / (double) WordCounter.WORDS_PER_MINUTE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WordCounterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.learning.blog.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+public class ActuatorSecurityTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void shouldServePrometheusScrapeWithoutTokenOnManagementPortOnly() {
+        ResponseEntity<String> scrape = get(managementPort, "/actuator/prometheus");
+
+        assertEquals(200, scrape.getStatusCode().value());
+        assertTrue(scrape.getBody().contains("jvm_memory_used_bytes"));
+        assertEquals(403, get(port, "/actuator/prometheus").getStatusCode().value());
+    }
+
+    @Test
+    void shouldKeepOtherActuatorEndpointsForAdmins() {
+        assertEquals(403, get(managementPort, "/actuator/metrics").getStatusCode().value());
+        assertEquals(403, get(managementPort, "/actuator/info").getStatusCode().value());
+    }
+
+    private ResponseEntity<String> get(int port, String path) {
+        return restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+    }
+}
@@ -0,0 +1,154 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.BlogUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "posts.import.chunk-size=2")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class AdminPostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldImportValidRecordsAndReportRejectedOnes() throws Exception {
+        String run = UUID.randomUUID().toString();
+        User admin = saveUser(UserRole.ADMIN);
+        String body = """
+                {"title":"first %1$s","content":"one two three","category":"Imported %1$s","tags":["Java ","%1$s"],"status":"PUBLISHED"}
+                {"content":"missing title","category":"Imported %1$s"}
+                {"title":"second %1$s","content":"four five","category":"imported %1$s","tags":["java"],"status":"NOT_A_STATUS"}
+                {"title":"third %1$s","content":"six","category":"IMPORTED %1$s","tags":["java"],"createdAt":"2020-01-02T03:04:05"}
+                """.formatted(run);
+
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .with(user(new BlogUserDetails(admin)))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.chunks.length()").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("Record 2: Title is required"));
+
+        // Category names match regardless of case, and tag names are normalized before lookup
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM categories WHERE upper(name) = upper(?)", Integer.class, "Imported " + run));
+        assertEquals(1, tagRepository.findByNameIn(List.of("java")).size());
+        assertEquals(3, jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM post_tags pt JOIN posts p ON p.id = pt.post_id
+                WHERE p.title IN (?, ?)""", Integer.class, "first " + run, "third " + run));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT word_count FROM posts WHERE title = ?", Integer.class, "first " + run));
+    }
+
+    @Test
+    void shouldRejectTagsLongerThanTheColumn() throws Exception {
+        String run = UUID.randomUUID().toString();
+        String body = """
+                {"title":"long tag %1$s","content":"content","category":"Imported %1$s","tags":["%2$s"]}
+                {"title":"short tag %1$s","content":"content","category":"Imported %1$s","tags":["%3$s"]}
+                """.formatted(run, "x".repeat(256), "y".repeat(255));
+
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .with(user(new BlogUserDetails(saveUser(UserRole.ADMIN))))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("Record 1: Tag must be at most 255 characters"));
+    }
+
+    // The second chunk fails in the database: it is rolled back and reported, and the tag it created is created
+    // again by the third chunk instead of being referenced by an id that was rolled back
+    @Test
+    void shouldReportFailedChunkAndImportTheOthers() throws Exception {
+        String run = UUID.randomUUID().toString();
+        doAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> row[1].toString().startsWith("broken"))) {
+                throw new DataIntegrityViolationException("simulated failure");
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(startsWith("INSERT INTO posts"), anyList());
+        String body = """
+                {"title":"first %1$s","content":"content","category":"Imported %1$s"}
+                {"title":"second %1$s","content":"content","category":"Imported %1$s"}
+                {"title":"broken %1$s","content":"content","category":"Imported %1$s","tags":["late %1$s"]}
+                {"title":"fourth %1$s","content":"content","category":"Imported %1$s","tags":["late %1$s"]}
+                {"title":"fifth %1$s","content":"content","category":"Imported %1$s","tags":["late %1$s"]}
+                """.formatted(run);
+
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .with(user(new BlogUserDetails(saveUser(UserRole.ADMIN))))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.chunks[*].chunk").value(contains(1, 3)))
+                .andExpect(jsonPath("$.errors[0]").value("Chunk 2: 2 posts not imported: simulated failure"));
+
+        assertEquals(1, jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM post_tags pt JOIN tags t ON t.id = pt.tag_id
+                WHERE t.name = ?""", Integer.class, "late " + run));
+    }
+
+    @Test
+    void shouldRejectNonAdminUsers() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/posts/import")
+                        .with(user(new BlogUserDetails(saveUser(UserRole.USER))))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private User saveUser(UserRole role) {
+        return userRepository.save(User.builder()
+                .name("importer")
+                .email(UUID.randomUUID() + "@gmail.com")
+                .password("password123")
+                .role(role)
+                .isEnabled(true)
+                .build());
+    }
+}
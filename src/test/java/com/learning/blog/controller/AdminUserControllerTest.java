@@ -0,0 +1,162 @@
+package com.learning.blog.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.learning.blog.model.Category;
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.service.impl.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "users.deletion.batch-size=10")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class AdminUserControllerTest {
+
+    private static final int POST_COUNT = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void shouldDeleteUserAndPostsInBackgroundBatches() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User author = saveUser(UserRole.USER);
+        String suffix = UUID.randomUUID().toString();
+        Category category = categoryRepository.save(Category.builder().name("category" + suffix).build());
+        Tag tag = tagRepository.save(Tag.builder().name("tag" + suffix).build());
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            posts.add(Post.builder()
+                    .title("post" + i)
+                    .content("content")
+                    .status(PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .author(author)
+                    .category(category)
+                    .tags(Set.of(tag))
+                    .build());
+        }
+        postRepository.saveAll(posts);
+
+        String location = mockMvc.perform(delete("/api/v1/admin/users/{id}", author.getId())
+                        .with(user(new BlogUserDetails(admin))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getHeader("Location");
+
+        // The job runs on the worker thread; poll its status the way a client would
+        String job = null;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            job = mockMvc.perform(get(location).with(user(new BlogUserDetails(admin))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            if (!List.of("PENDING", "RUNNING").contains(JsonPath.<String>read(job, "$.status"))) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+
+        assertEquals("COMPLETED", JsonPath.read(job, "$.status"));
+        assertEquals(POST_COUNT, JsonPath.<Integer>read(job, "$.postsDeleted"));
+        assertFalse(userRepository.existsById(author.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM posts WHERE author_id = ?", Integer.class, author.getId()));
+        // The tag links go with the posts; the tag itself stays
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM post_tags WHERE tag_id = ?", Integer.class, tag.getId()));
+        assertTrue(tagRepository.existsById(tag.getId()));
+    }
+
+    // Posts written after the worker has gone past them would keep the user row from being deleted
+    @Test
+    void shouldRejectTokensOfUserOnceDeletionIsRequested() throws Exception {
+        User admin = saveUser(UserRole.ADMIN);
+        User author = saveUser(UserRole.USER);
+        Category category = categoryRepository.save(Category.builder().name("category" + UUID.randomUUID()).build());
+        String authorization = "Bearer " + jwtService.generateToken(new BlogUserDetails(author));
+        String body = """
+                {"title": "title", "content": "content", "categoryId": "%s"}
+                """.formatted(category.getId());
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(delete("/api/v1/admin/users/{id}", author.getId())
+                        .with(user(new BlogUserDetails(admin))))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownDeletionJob() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/users/deletions/{jobId}", UUID.randomUUID())
+                        .with(user(new BlogUserDetails(saveUser(UserRole.ADMIN)))))
+                .andExpect(status().isNotFound());
+    }
+
+    private User saveUser(UserRole role) {
+        return userRepository.save(User.builder()
+                .name("user")
+                .email(UUID.randomUUID() + "@gmail.com")
+                .password("password123")
+                .role(role)
+                .isEnabled(true)
+                .build());
+    }
+}
@@ -0,0 +1,159 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.Category;
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.BlogUserDetails;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The same create request sent many times at once must insert one row and reject the rest with 400, never a 500;
+// rows created on the side, such as tags, must be created once and shared
+@SpringBootTest(properties = "auth.password-hashing.queue-capacity=128")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class DuplicateSubmissionTest {
+
+    private static final int SUBMISSIONS = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldRegisterEmailOnceUnderConcurrentDuplicates() throws Exception {
+        String email = UUID.randomUUID() + "@gmail.com";
+        String body = """
+                {"name":"duplicate","email":"%s","password":"password123","confirmPassword":"password123"}
+                """.formatted(email);
+
+        Map<Integer, Long> statuses = submitConcurrently(() -> post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        assertEquals(Map.of(201, 1L, 400, (long) SUBMISSIONS - 1), statuses);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE email = ?", Integer.class, email));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM email_outbox WHERE recipient = ?", Integer.class, email));
+    }
+
+    @Test
+    void shouldCreateCategoryOnceUnderConcurrentDuplicates() throws Exception {
+        String name = "Duplicate" + UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+        User author = saveAuthor();
+
+        Map<Integer, Long> statuses = submitConcurrently(() -> post("/api/v1/categories")
+                .with(user(new BlogUserDetails(author)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"%s\"}".formatted(name)));
+
+        assertEquals(Map.of(201, 1L, 400, (long) SUBMISSIONS - 1), statuses);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM categories WHERE name = ?", Integer.class, name));
+    }
+
+    @Test
+    void shouldRejectCategoryNameDifferingOnlyInCase() throws Exception {
+        String name = "Tech" + UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+        User author = saveAuthor();
+
+        mockMvc.perform(post("/api/v1/categories")
+                        .with(user(new BlogUserDetails(author)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"%s\"}".formatted(name)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/categories")
+                        .with(user(new BlogUserDetails(author)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"%s\"}".formatted(name.toLowerCase())))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM categories WHERE upper(name) = upper(?)", Integer.class, name));
+    }
+
+    // Different posts, all bringing the same tag that does not exist yet: every post is created and links to one tag
+    @Test
+    void shouldCreateNewTagOnceUnderConcurrentPosts() throws Exception {
+        String tag = "concurrent" + UUID.randomUUID();
+        User author = saveAuthor();
+        Category category = categoryRepository.save(Category.builder().name("category" + UUID.randomUUID()).build());
+        String body = """
+                {"title": "title", "content": "content", "categoryId": "%s", "tags": ["%s"]}
+                """.formatted(category.getId(), tag);
+
+        Map<Integer, Long> statuses = submitConcurrently(() -> post("/api/v1/posts")
+                .with(user(new BlogUserDetails(author)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        assertEquals(Map.of(201, (long) SUBMISSIONS), statuses);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM tags WHERE name = ?", Integer.class, tag));
+        assertEquals(SUBMISSIONS, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE t.name = ?", Integer.class, tag));
+    }
+
+    private User saveAuthor() {
+        return userRepository.save(User.builder()
+                .name("author")
+                .email(UUID.randomUUID() + "@gmail.com")
+                .password("password123")
+                .role(UserRole.USER)
+                .isEnabled(true)
+                .build());
+    }
+
+    // Releases every request at once and counts the responses by status code
+    private Map<Integer, Long> submitConcurrently(Supplier<RequestBuilder> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SUBMISSIONS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> responses = new ArrayList<>();
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(request.get()).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> response : responses) {
+                statuses.add(response.get(60, TimeUnit.SECONDS));
+            }
+            return statuses.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
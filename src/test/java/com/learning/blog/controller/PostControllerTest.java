@@ -0,0 +1,253 @@
+package com.learning.blog.controller;
+
+import com.learning.blog.model.Category;
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.BlogUserDetails;
+import com.learning.blog.service.impl.PostViewCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class PostControllerTest {
+
+    private static final int POST_COUNT = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private String run;
+    private Post post;
+
+    // Every post gets its own author, category and tags so lazy loading would show up as one query per post
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        run = UUID.randomUUID().toString();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            String suffix = UUID.randomUUID().toString();
+            User author = userRepository.save(User.builder()
+                    .name("author" + i)
+                    .email(run + "-" + i + "@gmail.com")
+                    .password("password123")
+                    .role(UserRole.USER)
+                    .build());
+            Category category = categoryRepository.save(Category.builder().name("category" + suffix).build());
+            Tag first = tagRepository.save(Tag.builder().name("first" + suffix).build());
+            Tag second = tagRepository.save(Tag.builder().name("second" + suffix).build());
+
+            posts.add(Post.builder()
+                    .title("post" + i)
+                    .content("content")
+                    .status(PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .author(author)
+                    .category(category)
+                    .tags(Set.of(first, second))
+                    .build());
+        }
+        postRepository.saveAll(posts);
+        post = posts.get(0);
+    }
+
+    // The tests commit, so the users of this run are removed with their posts, and the tags and categories those
+    // posts used unless another post still refers to them
+    @AfterEach
+    void tearDown() {
+        String users = "SELECT id FROM users WHERE email LIKE ?";
+        List<Object[]> tagIds = jdbcTemplate.queryForList("""
+                SELECT DISTINCT pt.tag_id FROM post_tags pt JOIN posts p ON p.id = pt.post_id
+                WHERE p.author_id IN (%s)""".formatted(users), UUID.class, run + "%").stream()
+                .map(id -> new Object[]{id})
+                .toList();
+        List<Object[]> categoryIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT category_id FROM posts WHERE author_id IN (%s)".formatted(users),
+                UUID.class, run + "%").stream()
+                .map(id -> new Object[]{id})
+                .toList();
+
+        jdbcTemplate.update("DELETE FROM posts WHERE author_id IN (%s)".formatted(users), run + "%");
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM tags t WHERE t.id = ? AND NOT EXISTS (SELECT 1 FROM post_tags pt WHERE pt.tag_id = t.id)",
+                tagIds);
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM categories c WHERE c.id = ? AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.category_id = c.id)",
+                categoryIds);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", run + "%");
+    }
+
+    @Test
+    void shouldLoadFeedPageWithConstantNumberOfStatements() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(50))
+                .andExpect(jsonPath("$.items[0].tags.length()").value(2));
+
+        // one statement for the page and one for the tags of all posts on it
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldLoadPostDetailInOneStatement() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authorName").value("author0"))
+                .andExpect(jsonPath("$.tags.length()").value(2));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void shouldCountViewsInMemoryUntilFlushed() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(get("/api/v1/posts/{id}", post.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.viewCount").value(i));
+        }
+        assertEquals(0, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+
+        postViewCounter.flush();
+
+        assertEquals(3, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+        assertEquals(0, postViewCounter.unflushedViews(post.getId()));
+    }
+
+    @Test
+    void shouldCreatePostWithWordCountAndNewTag() throws Exception {
+        String tag = "new" + UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/posts")
+                        .with(user(new BlogUserDetails(post.getAuthor())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(postBody("one two three", tag)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.authorId").value(post.getAuthor().getId().toString()))
+                .andExpect(jsonPath("$.wordCount").value(3))
+                .andExpect(jsonPath("$.readingTime").value(1))
+                .andExpect(jsonPath("$.tags[0]").value(tag));
+    }
+
+    @Test
+    void shouldRecountWordsWhenAuthorUpdatesContent() throws Exception {
+        mockMvc.perform(put("/api/v1/posts/{id}", post.getId())
+                        .with(user(new BlogUserDetails(post.getAuthor())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(postBody("a well-known post, rewritten in 2025", "updated")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wordCount").value(6))
+                .andExpect(jsonPath("$.content").value("a well-known post, rewritten in 2025"));
+
+        assertEquals(6, postRepository.findById(post.getId()).orElseThrow().getWordCount());
+    }
+
+    @Test
+    void shouldForbidOtherUsersFromModifyingPost() throws Exception {
+        BlogUserDetails otherUser = new BlogUserDetails(saveUser(UserRole.USER));
+
+        mockMvc.perform(put("/api/v1/posts/{id}", post.getId())
+                        .with(user(otherUser))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(postBody("taken over", "updated")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/v1/posts/{id}", post.getId()).with(user(otherUser)))
+                .andExpect(status().isForbidden());
+
+        assertEquals("content", postRepository.findById(post.getId()).orElseThrow().getContent());
+    }
+
+    @Test
+    void shouldLetAdminModifyAnyPost() throws Exception {
+        BlogUserDetails admin = new BlogUserDetails(saveUser(UserRole.ADMIN));
+
+        mockMvc.perform(put("/api/v1/posts/{id}", post.getId())
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(postBody("moderated by an admin", "updated")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authorId").value(post.getAuthor().getId().toString()))
+                .andExpect(jsonPath("$.wordCount").value(4));
+        mockMvc.perform(delete("/api/v1/posts/{id}", post.getId()).with(user(admin)))
+                .andExpect(status().isNoContent());
+
+        assertFalse(postRepository.existsById(post.getId()));
+    }
+
+    private String postBody(String content, String tag) {
+        return """
+                {"title": "title", "content": "%s", "categoryId": "%s", "tags": ["%s"], "status": "PUBLISHED"}
+                """.formatted(content, post.getCategory().getId(), tag);
+    }
+
+    private User saveUser(UserRole role) {
+        return userRepository.save(User.builder()
+                .name("user")
+                .email(run + "-" + role + "@gmail.com")
+                .password("password123")
+                .role(role)
+                .isEnabled(true)
+                .build());
+    }
+}
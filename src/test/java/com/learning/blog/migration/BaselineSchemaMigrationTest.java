@@ -0,0 +1,58 @@
+package com.learning.blog.migration;
+
+import com.learning.blog.support.PostgresTestDatabase;
+import com.learning.blog.util.WordCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A database created by ddl-auto=update before the migrations existed must be brought up to date by them, so that
+// the context starts with ddl-auto=validate, which is what production does on startup
+@SpringBootTest
+@ActiveProfiles("test")
+public class BaselineSchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+
+    @DynamicPropertySource
+    static void baselineDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        String jdbcUrl = PostgresTestDatabase.createDatabase("baseline_migration");
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, "postgres", "postgres")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline-schema.sql"));
+        }
+        PostgresTestDatabase.register(registry, jdbcUrl);
+    }
+
+    @Test
+    void shouldMigrateBaselineSchemaAndBackfillExistingPosts() {
+        String content = jdbcTemplate.queryForObject("SELECT content FROM posts WHERE title = 'Baseline post'", String.class);
+
+        assertEquals(WordCounter.count(content), jdbcTemplate.queryForObject(
+                "SELECT word_count FROM posts WHERE title = 'Baseline post'", Integer.class));
+        assertTrue(jdbcTemplate.queryForObject(
+                "SELECT search_vector @@ to_tsquery('english', 'legacy') FROM posts WHERE title = 'Baseline post'",
+                Boolean.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM flyway_schema_history WHERE NOT success", Integer.class));
+    }
+}
@@ -0,0 +1,132 @@
+package com.learning.blog.repository;
+
+import com.learning.blog.model.Category;
+import com.learning.blog.model.Post;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.model.enums.UserRole;
+import com.learning.blog.repository.projection.PostSearchRow;
+import com.learning.blog.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Full-text search runs on the search_vector the migration triggers maintain, so it needs PostgreSQL
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostSearchRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private User author;
+    private Category category;
+
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, PostgresTestDatabase.createDatabase("post_search"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .name("author")
+                .email(UUID.randomUUID() + "@gmail.com")
+                .password("password123")
+                .role(UserRole.USER)
+                .isEnabled(true)
+                .build());
+        category = categoryRepository.save(Category.builder().name("category" + UUID.randomUUID()).build());
+    }
+
+    // Title outranks tags, which outrank content; drafts and posts without the term are not found
+    @Test
+    void shouldRankByWeightAndHighlightMatches() {
+        Tag javaTag = tagRepository.save(Tag.builder().name("java").build());
+        Post inTitle = save("Java records explained", "Records remove boilerplate from data classes.", PostStatus.PUBLISHED);
+        Post inTag = save("Weekly notes", "Nothing about the language in the text itself.", PostStatus.PUBLISHED, javaTag);
+        Post inContent = save("Weekly cooking", "Between two recipes I wrote some Java at the kitchen table.", PostStatus.PUBLISHED);
+        save("Java draft", "Java everywhere, but not published yet.", PostStatus.DRAFT);
+        save("Gardening", "Tomatoes need sun.", PostStatus.PUBLISHED);
+
+        List<PostSearchRow> rows = postRepository.search("java", 10);
+
+        assertEquals(List.of(inTitle.getId(), inTag.getId(), inContent.getId()), ids(rows));
+        assertTrue(rows.get(0).getRank() > rows.get(1).getRank());
+        assertTrue(rows.get(1).getRank() > rows.get(2).getRank());
+        assertEquals("author", rows.get(2).getAuthorName());
+        assertEquals(category.getName(), rows.get(2).getCategoryName());
+        assertTrue(rows.get(2).getSnippet().contains("<mark>Java</mark>"), rows.get(2).getSnippet());
+        assertFalse(rows.get(1).getSnippet().contains("<mark>"), rows.get(1).getSnippet());
+    }
+
+    // Equal ranks are common (same words, same weights), so the id breaks ties and no row is skipped or repeated.
+    // PostgreSQL orders uuids by their bytes, which is the order of their lowercase hex strings.
+    @Test
+    void shouldPageThroughEqualRanksWithRankAndIdCursor() {
+        save("Spring Boot testing", "Spring tests with a real database.", PostStatus.PUBLISHED);
+        for (int i = 0; i < 5; i++) {
+            save("Notes " + i, "A short note on Spring.", PostStatus.PUBLISHED);
+        }
+
+        List<PostSearchRow> all = postRepository.search("spring", 100);
+        assertEquals(6, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            PostSearchRow previous = all.get(i - 1);
+            PostSearchRow current = all.get(i);
+            assertTrue(previous.getRank() > current.getRank()
+                    || previous.getRank().equals(current.getRank())
+                    && previous.getId().toString().compareTo(current.getId().toString()) > 0);
+        }
+
+        List<UUID> paged = new ArrayList<>();
+        List<PostSearchRow> page = postRepository.search("spring", 2);
+        while (!page.isEmpty()) {
+            paged.addAll(ids(page));
+            PostSearchRow last = page.get(page.size() - 1);
+            page = postRepository.searchAfter("spring", last.getRank(), last.getId(), 2);
+        }
+
+        assertEquals(ids(all), paged);
+    }
+
+    private Post save(String title, String content, PostStatus status, Tag... tags) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content(content)
+                .status(status)
+                .readingTime(1)
+                .author(author)
+                .category(category)
+                .tags(new HashSet<>(Set.of(tags)))
+                .build());
+    }
+
+    private static List<UUID> ids(List<PostSearchRow> rows) {
+        return rows.stream().map(PostSearchRow::getId).toList();
+    }
+}
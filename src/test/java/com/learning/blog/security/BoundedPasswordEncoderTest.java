@@ -0,0 +1,66 @@
+package com.learning.blog.security;
+
+import com.learning.blog.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, 1, 1, 3, meterRegistry)) {
+            Future<String> running = callers.submit(() -> encoder.encode("first"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> queued = callers.submit(() -> encoder.encode("second"));
+            // Wait for the second call to sit in the queue behind the first
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+                assertTrue(System.nanoTime() < deadline, "second call was never queued");
+                Thread.sleep(10);
+            }
+
+            ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                    () -> encoder.encode("third"));
+            assertEquals(3, exception.getRetryAfterSeconds());
+
+            release.countDown();
+            assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.learning.blog.security;
+
+import com.learning.blog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(4, 60000, 2, 60000, 1000, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectEmailOnceItsBucketIsEmpty() {
+        loginRateLimiter.acquire("user@blog.com", "10.0.0.1");
+        loginRateLimiter.acquire("USER@blog.com ", "10.0.0.2");
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginRateLimiter.acquire("user@blog.com", "10.0.0.3"));
+
+        assertTrue(exception.getRetryAfterSeconds() >= 1 && exception.getRetryAfterSeconds() <= 30);
+        assertEquals(2, meterRegistry.counter("auth.login.throttle", "result", "accepted", "limit", "none").count());
+        assertEquals(1, meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "email").count());
+    }
+
+    @Test
+    void shouldRejectIpAcrossDifferentEmails() {
+        for (int i = 0; i < 4; i++) {
+            loginRateLimiter.acquire("user" + i + "@blog.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("other@blog.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("other@blog.com", "10.0.0.2"));
+        assertEquals(1, meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "ip").count());
+    }
+
+    @Test
+    void shouldNotSpendIpTokensOnAttemptsRefusedForTheirEmail() {
+        loginRateLimiter.acquire("user@blog.com", "10.0.0.1");
+        loginRateLimiter.acquire("user@blog.com", "10.0.0.1");
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("user@blog.com", "10.0.0.1"));
+        }
+
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("other@blog.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("another@blog.com", "10.0.0.1"));
+        assertEquals(5, meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "email").count());
+        assertEquals(0, meterRegistry.counter("auth.login.throttle", "result", "rejected", "limit", "ip").count());
+    }
+}
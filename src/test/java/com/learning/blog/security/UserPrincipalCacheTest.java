@@ -0,0 +1,55 @@
+package com.learning.blog.security;
+
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserPrincipalCacheTest {
+
+    private static final String EMAIL = "user@blog.com";
+
+    private final UserPrincipalCache userPrincipalCache = new UserPrincipalCache(100, 60000, new SimpleMeterRegistry());
+    private final Date issuedAt = new Date();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldServeLoadedPrincipalFromCache() {
+        userPrincipalCache.get(EMAIL, issuedAt, this::load);
+        userPrincipalCache.get(EMAIL, issuedAt, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, userPrincipalCache.size());
+    }
+
+    // The eviction runs while the loader is reading the row, as it would from a transaction updating the user
+    @Test
+    void shouldNotKeepPrincipalLoadedWhileItWasEvicted() {
+        UserDetails loaded = userPrincipalCache.get(EMAIL, issuedAt, email -> {
+            userPrincipalCache.evict(email);
+            return load(email);
+        });
+
+        assertNotNull(loaded);
+        assertEquals(0, userPrincipalCache.size());
+        userPrincipalCache.get(EMAIL, issuedAt, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    private UserDetails load(String email) {
+        loads.incrementAndGet();
+        return new BlogUserDetails(User.builder()
+                .id(UUID.randomUUID())
+                .email(email)
+                .password("password123")
+                .role(UserRole.USER)
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.learning.blog.service;
+
+import com.learning.blog.event.UserChangedEvent;
+import com.learning.blog.model.enums.CountMode;
+import com.learning.blog.repository.CategoryRepository;
+import com.learning.blog.repository.PostRepository;
+import com.learning.blog.repository.UserRepository;
+import com.learning.blog.service.impl.CountServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CountServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CountService countService;
+
+    @BeforeEach
+    void setUp() {
+        countService = new CountServiceImpl(userRepository, postRepository, categoryRepository, jdbcTemplate, 60000);
+    }
+
+    @Test
+    void shouldServeExactCountFromCacheUntilUsersChange() throws InterruptedException {
+        when(userRepository.count()).thenReturn(5L, 6L);
+
+        assertEquals(5, countService.countUsers(CountMode.EXACT));
+        assertEquals(5, countService.countUsers(CountMode.EXACT));
+        verify(userRepository, times(1)).count();
+
+        ((CountServiceImpl) countService).onUserChanged(new UserChangedEvent(UUID.randomUUID()));
+
+        // The refresh runs in the background; the old count is served until it completes
+        long deadline = System.currentTimeMillis() + 1000;
+        while (countService.countUsers(CountMode.EXACT) != 6 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(6, countService.countUsers(CountMode.EXACT));
+        verify(userRepository, times(2)).count();
+    }
+
+    @Test
+    void shouldUsePlannerEstimateInApproximateMode() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1_000_000L);
+
+        assertEquals(1_000_000, countService.countUsers(CountMode.APPROXIMATE));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldFallBackToExactCountWithoutStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new InvalidDataAccessResourceUsageException("pg_class"))
+                .thenReturn(-1L);
+        when(userRepository.count()).thenReturn(5L);
+
+        assertEquals(5, countService.countUsers(CountMode.APPROXIMATE));
+        assertEquals(5, countService.countUsers(CountMode.APPROXIMATE));
+        verify(userRepository, times(1)).count();
+    }
+}
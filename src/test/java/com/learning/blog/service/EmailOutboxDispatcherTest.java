@@ -0,0 +1,91 @@
+package com.learning.blog.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.learning.blog.model.EmailMessage;
+import com.learning.blog.model.User;
+import com.learning.blog.model.enums.EmailStatus;
+import com.learning.blog.repository.EmailMessageRepository;
+import com.learning.blog.service.impl.EmailOutboxDispatcher;
+import com.learning.blog.service.impl.EmailService;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @Autowired
+    private EmailMessageRepository emailMessageRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        emailMessageRepository.deleteAll();
+
+        user = User.builder()
+                .name("testuser")
+                .email("testuser@gmail.com")
+                .verificationCode("123456")
+                .build();
+    }
+
+    @Test
+    void shouldQueueEmailsWithoutSending() {
+        emailService.sendVerificationEmail(user);
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        assertEquals(EmailStatus.PENDING, emailMessageRepository.findAll().get(0).getStatus());
+    }
+
+    @Test
+    void shouldDeliverQueuedEmailsInOneBatch() throws Exception {
+        emailService.sendVerificationEmail(user);
+        emailService.sendResetPasswordEmail(user);
+
+        int sent = emailOutboxDispatcher.dispatchPending();
+
+        assertEquals(2, sent);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("testuser@gmail.com", received[0].getAllRecipients()[0].toString());
+        assertTrue(emailMessageRepository.findAll().stream()
+                .allMatch(message -> message.getStatus() == EmailStatus.SENT && message.getSentAt() != null));
+    }
+
+    @Test
+    void shouldRescheduleWhenSmtpServerIsUnavailable() {
+        emailService.sendVerificationEmail(user);
+        greenMail.stop();
+
+        int sent = emailOutboxDispatcher.dispatchPending();
+
+        assertEquals(0, sent);
+        List<EmailMessage> messages = emailMessageRepository.findAll();
+        assertEquals(1, messages.size());
+        assertEquals(EmailStatus.PENDING, messages.get(0).getStatus());
+        assertEquals(1, messages.get(0).getAttempts());
+        assertTrue(messages.get(0).getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, emailOutboxDispatcher.dispatchPending());
+    }
+}
@@ -0,0 +1,118 @@
+package com.learning.blog.service;
+
+import com.learning.blog.service.impl.PostViewCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCounterTest {
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldWriteEachPostsViewsAsOneIncrement() {
+        PostViewCounter postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager);
+        postViewCounter.recordView(SECOND);
+        postViewCounter.recordView(FIRST);
+        postViewCounter.recordView(SECOND);
+
+        postViewCounter.flush();
+
+        assertEquals(List.of(List.of(1L, FIRST), List.of(2L, SECOND)), flushed(1));
+        assertEquals(0, postViewCounter.unflushedViews(SECOND));
+    }
+
+    // Flushes with no views in between write nothing; views recorded afterwards are written by the next one
+    @Test
+    void shouldWriteViewsRecordedAfterEarlierFlushes() {
+        PostViewCounter postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager);
+        postViewCounter.recordView(FIRST);
+        postViewCounter.recordView(SECOND);
+        postViewCounter.flush();
+        postViewCounter.flush();
+        postViewCounter.recordView(FIRST);
+
+        postViewCounter.flush();
+        postViewCounter.flush();
+        postViewCounter.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertEquals(List.of(List.of(1L, FIRST)), flushed(2));
+    }
+
+    @Test
+    void shouldRetryViewsOfFailedFlush() {
+        PostViewCounter postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(new int[]{1});
+        postViewCounter.recordView(FIRST);
+        postViewCounter.flush();
+        postViewCounter.recordView(FIRST);
+
+        postViewCounter.flush();
+
+        assertEquals(List.of(List.of(2L, FIRST)), flushed(2));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldWriteEveryViewRecordedDuringFlushesOnce() throws Exception {
+        PostViewCounter postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager);
+        AtomicLong written = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> written.addAndGet((Long) row[0]));
+            return new int[rows.size()];
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int view = 0; view < 10_000; view++) {
+                        postViewCounter.recordView(view % 2 == 0 ? FIRST : SECOND);
+                    }
+                });
+            }
+            executor.submit(() -> {
+                for (int flush = 0; flush < 100; flush++) {
+                    postViewCounter.flush();
+                }
+            });
+        }
+        postViewCounter.flush();
+
+        assertEquals(80_000, written.get());
+    }
+
+    // The rows of the last of `calls` batches, each as [delta, post id]
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> flushed(int calls) {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(calls)).batchUpdate(anyString(), batches.capture());
+        return batches.getValue().stream().map(List::of).toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.learning.blog.service;
+
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostSnapshot;
+import com.learning.blog.event.PostsBulkChangedEvent;
+import com.learning.blog.model.Tag;
+import com.learning.blog.model.dtos.PopularTagDto;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.repository.TagStatRepository;
+import com.learning.blog.repository.projection.TagStatRow;
+import com.learning.blog.service.impl.TagPopularityCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TagPopularityCountersTest {
+
+    private static final UUID JAVA_CATEGORY = UUID.randomUUID();
+    private static final UUID WEB_CATEGORY = UUID.randomUUID();
+
+    @Mock
+    private TagStatRepository tagStatRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TagPopularityCounters tagPopularityCounters;
+
+    @BeforeEach
+    void setUp() {
+        tagPopularityCounters = new TagPopularityCounters(tagStatRepository, tagRepository, transactionManager);
+    }
+
+    @Test
+    void shouldRankTagsOverallAndPerCategory() {
+        publish(JAVA_CATEGORY, "java", "spring");
+        publish(JAVA_CATEGORY, "java");
+        publish(WEB_CATEGORY, "spring", "css");
+        publish(WEB_CATEGORY, "spring");
+
+        assertEquals(List.of(new PopularTagDto("spring", 3), new PopularTagDto("java", 2)),
+                tagPopularityCounters.top(null, 2));
+        assertEquals(List.of(new PopularTagDto("java", 2), new PopularTagDto("spring", 1)),
+                tagPopularityCounters.top(JAVA_CATEGORY, 10));
+        assertTrue(tagPopularityCounters.top(UUID.randomUUID(), 10).isEmpty());
+        verifyNoInteractions(tagStatRepository);
+    }
+
+    @Test
+    void shouldOnlyCountPublishedPosts() {
+        PostSnapshot draft = new PostSnapshot(UUID.randomUUID(), JAVA_CATEGORY, PostStatus.DRAFT, Set.of("java"));
+        PostSnapshot published = new PostSnapshot(draft.id(), JAVA_CATEGORY, PostStatus.PUBLISHED, Set.of("java"));
+
+        tagPopularityCounters.onPostChanged(PostChangedEvent.created(draft));
+        assertTrue(tagPopularityCounters.top(null, 10).isEmpty());
+
+        tagPopularityCounters.onPostChanged(new PostChangedEvent(draft, published));
+        assertEquals(List.of(new PopularTagDto("java", 1)), tagPopularityCounters.top(null, 10));
+
+        tagPopularityCounters.onPostChanged(PostChangedEvent.deleted(published));
+        assertTrue(tagPopularityCounters.top(null, 10).isEmpty());
+    }
+
+    @Test
+    void shouldFlushPendingDeltasOnce() {
+        Tag java = Tag.builder().id(UUID.randomUUID()).name("java").build();
+        when(tagRepository.findByNameIn(Set.of("java"))).thenReturn(List.of(java));
+        publish(JAVA_CATEGORY, "java");
+        publish(JAVA_CATEGORY, "java");
+
+        tagPopularityCounters.flush();
+        tagPopularityCounters.flush();
+
+        verify(tagStatRepository).addToPostCount(java.getId(), JAVA_CATEGORY, 2);
+        verify(tagRepository, times(1)).findByNameIn(anyCollection());
+    }
+
+    // The recount is requested while a post's transaction is committing: it must wait for the post's delta, then
+    // count the post once, in the recount, and drop the delta instead of flushing it on top
+    @Test
+    void shouldNotRecountBetweenPostCommitAndItsDelta() throws Exception {
+        TagStatRow recounted = mock(TagStatRow.class);
+        when(recounted.getCategoryId()).thenReturn(JAVA_CATEGORY);
+        when(recounted.getTagName()).thenReturn("java");
+        when(recounted.getPostCount()).thenReturn(1L);
+        when(tagStatRepository.findAllRows()).thenReturn(List.of(recounted));
+
+        TransactionSynchronizationManager.initSynchronization();
+        Thread recount;
+        try {
+            publish(JAVA_CATEGORY, "java");
+            recount = Thread.ofVirtual().start(() -> tagPopularityCounters.onPostsBulkChanged(new PostsBulkChangedEvent(1)));
+            verify(tagStatRepository, after(200).never()).deleteAllRows();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        recount.join();
+        tagPopularityCounters.flush();
+
+        verify(tagStatRepository).recountFromPosts();
+        verify(tagStatRepository, never()).addToPostCount(any(), any(), anyLong());
+        assertEquals(List.of(new PopularTagDto("java", 1)), tagPopularityCounters.top(null, 10));
+    }
+
+    private void publish(UUID categoryId, String... tags) {
+        tagPopularityCounters.onPostChanged(PostChangedEvent.created(
+                new PostSnapshot(UUID.randomUUID(), categoryId, PostStatus.PUBLISHED, Set.of(tags))));
+    }
+}
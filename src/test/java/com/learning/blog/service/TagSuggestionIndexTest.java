@@ -0,0 +1,87 @@
+package com.learning.blog.service;
+
+import com.learning.blog.event.PostChangedEvent;
+import com.learning.blog.event.PostSnapshot;
+import com.learning.blog.model.dtos.TagSuggestionDto;
+import com.learning.blog.model.enums.PostStatus;
+import com.learning.blog.repository.TagRepository;
+import com.learning.blog.service.impl.TagSuggestionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TagSuggestionIndexTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @InjectMocks
+    private TagSuggestionIndex tagSuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(tagRepository.findAllWithPostCount()).thenReturn(List.of(
+                new TagSuggestionDto("java", 5),
+                new TagSuggestionDto("javascript", 9),
+                new TagSuggestionDto("jvm", 2),
+                new TagSuggestionDto("kotlin", 7)));
+        tagSuggestionIndex.rebuild();
+    }
+
+    @Test
+    void shouldRankPrefixMatchesByPostCount() {
+        List<TagSuggestionDto> suggestions = tagSuggestionIndex.suggest("J", 2);
+
+        assertEquals(List.of(new TagSuggestionDto("javascript", 9), new TagSuggestionDto("java", 5)), suggestions);
+        assertTrue(tagSuggestionIndex.suggest("rust", 10).isEmpty());
+        verify(tagRepository, times(1)).findAllWithPostCount();
+    }
+
+    @Test
+    void shouldApplyTagChangesFromPostEvents() {
+        PostSnapshot before = new PostSnapshot(UUID.randomUUID(), null, PostStatus.PUBLISHED, Set.of("java"));
+        PostSnapshot after = new PostSnapshot(before.id(), null, PostStatus.PUBLISHED, Set.of("jakarta", "jvm"));
+
+        tagSuggestionIndex.onPostChanged(new PostChangedEvent(before, after));
+
+        assertEquals(List.of(new TagSuggestionDto("javascript", 9), new TagSuggestionDto("java", 4)),
+                tagSuggestionIndex.suggest("java", 10));
+        assertEquals(List.of(new TagSuggestionDto("jvm", 3)), tagSuggestionIndex.suggest("jv", 10));
+        assertEquals(List.of(new TagSuggestionDto("jakarta", 1)), tagSuggestionIndex.suggest("jak", 10));
+    }
+
+    // Drafts add their new tags without counting; publishing counts them and re-ranks the short prefixes
+    @Test
+    void shouldCountOnlyPublishedPostsAndReRankShortPrefixes() {
+        PostSnapshot draft = new PostSnapshot(UUID.randomUUID(), null, PostStatus.DRAFT, Set.of("jvm", "jdk"));
+        PostSnapshot published = new PostSnapshot(draft.id(), null, PostStatus.PUBLISHED, Set.of("jvm", "jdk"));
+
+        tagSuggestionIndex.onPostChanged(new PostChangedEvent(null, draft));
+
+        assertEquals(List.of(new TagSuggestionDto("jdk", 0)), tagSuggestionIndex.suggest("jd", 10));
+        assertEquals(List.of(new TagSuggestionDto("jvm", 2)), tagSuggestionIndex.suggest("jv", 10));
+
+        for (int i = 0; i < 4; i++) {
+            tagSuggestionIndex.onPostChanged(new PostChangedEvent(null, published));
+        }
+
+        assertEquals(List.of(new TagSuggestionDto("javascript", 9), new TagSuggestionDto("jvm", 6),
+                new TagSuggestionDto("java", 5)), tagSuggestionIndex.suggest("j", 3));
+        assertEquals(List.of(new TagSuggestionDto("jdk", 4)), tagSuggestionIndex.suggest("JD", 10));
+
+        tagSuggestionIndex.onPostChanged(new PostChangedEvent(published, draft));
+
+        assertEquals(List.of(new TagSuggestionDto("jvm", 5)), tagSuggestionIndex.suggest("jv", 10));
+    }
+}
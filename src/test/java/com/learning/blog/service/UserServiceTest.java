@@ -3,10 +3,15 @@ package com.learning.blog.service;
 import com.learning.blog.exception.ResourceNotFoundException;
 import com.learning.blog.mapper.UserMapper;
 import com.learning.blog.model.User;
+import com.learning.blog.model.dtos.CursorPage;
+import com.learning.blog.model.dtos.SlicePage;
+import com.learning.blog.model.dtos.UserDeletionJobDto;
 import com.learning.blog.model.dtos.UserRequest;
 import com.learning.blog.model.dtos.UserResponse;
+import com.learning.blog.model.enums.CountMode;
 import com.learning.blog.model.enums.UserRole;
 import com.learning.blog.repository.UserRepository;
+import com.learning.blog.security.UserPrincipalCache;
 import com.learning.blog.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,11 +19,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +41,15 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private CountService countService;
+
+    @Mock
+    private UserDeletionService userDeletionService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -122,34 +137,60 @@ public class UserServiceTest {
     }
 
     @Test
-    void shouldGetAllUsers() {
-        List<User> users = List.of(user);
-        Page<User> userPage = new PageImpl<>(users, PageRequest.of(0, 10), 1);
+    void shouldPageUsersByCursorWithoutCounting() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        UserResponse newer = UserResponse.builder().id(UUID.randomUUID()).createdAt(createdAt.plusDays(1)).build();
+        UserResponse older = UserResponse.builder().id(UUID.randomUUID()).createdAt(createdAt).build();
+
+        when(userRepository.findUsers(UserRole.ADMIN, true, Limit.of(2))).thenReturn(List.of(newer, older));
+        when(userRepository.findUsersAfter(UserRole.ADMIN, true, newer.getCreatedAt(), newer.getId(), Limit.of(2)))
+                .thenReturn(List.of(older));
+
+        CursorPage<UserResponse> first = userService.getUsers("admin", true, null, 1);
+        CursorPage<UserResponse> second = userService.getUsers("admin", true, first.getNextCursor(), 1);
+
+        assertEquals(List.of(newer), first.getItems());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(older), second.getItems());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(userRepository, never()).count();
+        verifyNoInteractions(userMapper);
+    }
 
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(userPage);
-        when(userMapper.toResponse(user)).thenReturn(userResponse);
+    @Test
+    void shouldGetUserSliceWithoutCounting() {
+        Pageable pageable = PageRequest.of(2, 10);
+        when(userRepository.findUserSlice(null, null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(userResponse), pageable, true));
 
-        Page<UserResponse> result = userService.getAllUsers(PageRequest.of(0, 10));
+        SlicePage<UserResponse> result = userService.getUserSlice(null, null, 2, 10);
 
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        assertEquals(1, result.getContent().size());
+        assertEquals(List.of(userResponse), result.getItems());
+        assertEquals(2, result.getPage());
+        assertTrue(result.isHasNext());
+        verify(userRepository, never()).count();
+    }
 
-        verify(userRepository, times(1)).findAll(any(Pageable.class));
-        verify(userMapper, times(1)).toResponse(user);
+    @Test
+    void shouldRejectInvalidRoleFilter() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers("owner", null, null, 20));
+
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void shouldGetUsersCount() {
         long expectedCount = 5L;
 
-        when(userRepository.count()).thenReturn(expectedCount);
+        when(countService.countUsers(CountMode.EXACT)).thenReturn(expectedCount);
 
         long result = userService.getUsersCount();
 
         assertEquals(expectedCount, result);
 
-        verify(userRepository, times(1)).count();
+        verify(countService, times(1)).countUsers(CountMode.EXACT);
+        verify(userRepository, never()).count();
     }
 
     @Test
@@ -251,12 +292,16 @@ public class UserServiceTest {
     void shouldDeleteUser() {
         UUID id = user.getId();
 
+        UserDeletionJobDto job = UserDeletionJobDto.builder().id(UUID.randomUUID()).userId(id).build();
+
         when(userRepository.existsById(id)).thenReturn(true);
+        when(userDeletionService.requestDeletion(id)).thenReturn(job);
 
-        assertDoesNotThrow(() -> userService.deleteUser(id));
+        assertEquals(job, userService.deleteUser(id));
 
         verify(userRepository, times(1)).existsById(id);
-        verify(userRepository, times(1)).deleteById(id);
+        verify(userDeletionService, times(1)).requestDeletion(id);
+        verify(userRepository, never()).deleteById(id);
     }
 
     @Test
@@ -268,7 +313,7 @@ public class UserServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(id));
 
         verify(userRepository, times(1)).existsById(id);
-        verify(userRepository, never()).deleteById(id);
+        verify(userDeletionService, never()).requestDeletion(any(UUID.class));
     }
 
     @Test
@@ -280,7 +325,8 @@ public class UserServiceTest {
         assertDoesNotThrow(() -> userService.deleteUserByEmail(email));
 
         verify(userRepository, times(1)).findByEmail(email);
-        verify(userRepository, times(1)).delete(user);
+        verify(userDeletionService, times(1)).requestDeletion(user.getId());
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     @Test
@@ -292,6 +338,6 @@ public class UserServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUserByEmail(email));
 
         verify(userRepository, times(1)).findByEmail(email);
-        verify(userRepository, never()).delete(any(User.class));
+        verify(userDeletionService, never()).requestDeletion(any(UUID.class));
     }
 }
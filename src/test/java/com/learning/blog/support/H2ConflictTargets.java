@@ -0,0 +1,52 @@
+package com.learning.blog.support;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.regex.Pattern;
+
+// H2 in PostgreSQL mode accepts ON CONFLICT DO NOTHING but not a conflict target. On H2 the target is dropped from
+// every statement as it is prepared; PostgreSQL test databases get the SQL unchanged.
+@Component
+public class H2ConflictTargets implements BeanPostProcessor {
+
+    private static final Pattern CONFLICT_TARGET = Pattern.compile("ON CONFLICT \\(\\S*?\\) DO NOTHING");
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getJdbcUrl().startsWith("jdbc:h2:")) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return withoutConflictTargets(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return withoutConflictTargets(super.getConnection(username, password));
+                }
+            };
+        }
+        return bean;
+    }
+
+    private static Connection withoutConflictTargets(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare") && args[0] instanceof String sql) {
+                        args[0] = CONFLICT_TARGET.matcher(sql).replaceAll("ON CONFLICT DO NOTHING");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
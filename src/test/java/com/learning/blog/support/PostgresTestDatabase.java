@@ -0,0 +1,77 @@
+package com.learning.blog.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Assumptions;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// A throwaway PostgreSQL server for the tests that need what H2 cannot run: the migrations, their triggers and
+// full-text search. The server is shared and every test class gets a database of its own. In a build that runs as
+// root, the server runs in a user namespace of its own as an unprivileged user, as PostgreSQL refuses to run as root.
+public final class PostgresTestDatabase {
+
+    private static EmbeddedPostgres server;
+
+    private PostgresTestDatabase() {
+    }
+
+    // Skips the tests where the server cannot be started, except in CI, where a skip would hide that they stopped
+    // running
+    public static void assumeAvailable() {
+        try {
+            server();
+        } catch (RuntimeException e) {
+            if (System.getenv("CI") != null) {
+                throw e;
+            }
+            Assumptions.abort("PostgreSQL could not be started: " + e.getMessage());
+        }
+    }
+
+    public static synchronized String createDatabase(String name) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + name);
+            statement.execute("CREATE DATABASE " + name);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return server.getJdbcUrl("postgres", name);
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (server == null) {
+            try {
+                server = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(PostgresTestDatabase::stop));
+        }
+        return server;
+    }
+
+    // Points the test profile at the database and lets Flyway build the schema, as in production
+    public static void register(DynamicPropertyRegistry registry, String jdbcUrl) {
+        registry.add("spring.datasource.url", () -> jdbcUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    private static synchronized void stop() {
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // The JVM is exiting; the data directory is temporary
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.learning.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidV7GeneratorTest {
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        UUID id = generator.generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinOneMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+        // More ids than the counter holds, so the overflow into the next millisecond is covered too
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.learning.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordCounterTest {
+
+    @Test
+    void shouldCountWordsSeparatedByAnyWhitespace() {
+        assertEquals(4, WordCounter.count("one two\tthree\n\nfour"));
+        assertEquals(3, WordCounter.count("  leading and trailing  "));
+        assertEquals(2, WordCounter.count("windows\r\nline"));
+    }
+
+    @Test
+    void shouldNotSplitWordsOnInnerPunctuation() {
+        assertEquals(3, WordCounter.count("don't well-known e.g."));
+        assertEquals(2, WordCounter.count("(quoted) \"words\""));
+    }
+
+    @Test
+    void shouldIgnoreTokensWithoutLettersOrDigits() {
+        assertEquals(2, WordCounter.count("before -- after"));
+        assertEquals(0, WordCounter.count("... !!! ---"));
+        assertEquals(1, WordCounter.count("2023!"));
+    }
+
+    @Test
+    void shouldCountNonLatinWords() {
+        assertEquals(3, WordCounter.count("Größe café naïve"));
+        assertEquals(2, WordCounter.count("привет мир"));
+        assertEquals(2, WordCounter.count("😀 emoji"));
+    }
+
+    @Test
+    void shouldCountNothingInEmptyText() {
+        assertEquals(0, WordCounter.count(null));
+        assertEquals(0, WordCounter.count(""));
+        assertEquals(0, WordCounter.count(" \n\t "));
+    }
+
+    @Test
+    void shouldRoundReadingTimeUpToWholeMinutes() {
+        assertEquals(1, WordCounter.readingTimeMinutes(0));
+        assertEquals(1, WordCounter.readingTimeMinutes(WordCounter.WORDS_PER_MINUTE));
+        assertEquals(2, WordCounter.readingTimeMinutes(WordCounter.WORDS_PER_MINUTE + 1));
+    }
+}
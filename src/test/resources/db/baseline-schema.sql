@@ -0,0 +1,20 @@
+-- The schema ddl-auto=update generated for the entities of the baseline, before the migrations existed
+create table categories (id uuid not null, name varchar(255) not null unique, primary key (id));
+create table tags (id uuid not null, name varchar(255) not null unique, primary key (id));
+create table users (is_enabled boolean not null, created_at timestamp(6) not null, expiration_time timestamp(6), id uuid not null, email varchar(255) not null unique, name varchar(255) not null, password varchar(255) not null, role varchar(255) not null check (role in ('USER','ADMIN')), verification_code varchar(255), primary key (id));
+create table posts (reading_time integer not null, created_at timestamp(6) not null, updated_at timestamp(6) not null, author_id uuid not null, category_id uuid not null, id uuid not null, content TEXT not null, status varchar(255) not null check (status in ('DRAFT','PUBLISHED')), title varchar(255) not null, primary key (id));
+create table post_tags (post_id uuid not null, tag_id uuid not null, primary key (post_id, tag_id));
+alter table if exists posts add constraint FK6xvn0811tkyo3nfjk2xvqx6ns foreign key (author_id) references users;
+alter table if exists posts add constraint FKijnwr3brs8vaosl80jg9rp7uc foreign key (category_id) references categories;
+alter table if exists post_tags add constraint FKm6cfovkyqvu5rlm6ahdx3eavj foreign key (tag_id) references tags;
+alter table if exists post_tags add constraint FKkifam22p4s1nm3bkmp1igcn5w foreign key (post_id) references posts;
+
+insert into users (is_enabled, created_at, id, email, name, password, role)
+values (true, now(), '00000000-0000-0000-0000-000000000001', 'baseline@gmail.com', 'baseline', 'password123', 'USER');
+insert into categories (id, name) values ('00000000-0000-0000-0000-000000000002', 'Baseline');
+insert into tags (id, name) values ('00000000-0000-0000-0000-000000000003', 'legacy');
+insert into posts (reading_time, created_at, updated_at, author_id, category_id, id, content, status, title)
+values (1, now(), now(), '00000000-0000-0000-0000-000000000001', '00000000-0000-0000-0000-000000000002',
+        '00000000-0000-0000-0000-000000000004', 'A well-known post -- written before migrations, in 2023!',
+        'PUBLISHED', 'Baseline post');
+insert into post_tags (post_id, tag_id) values ('00000000-0000-0000-0000-000000000004', '00000000-0000-0000-0000-000000000003');
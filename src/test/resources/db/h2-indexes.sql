@@ -0,0 +1,3 @@
+-- Run by Hibernate after it creates the H2 schema. H2 cannot index an expression, so a generated column stands in
+-- for uk_categories_name_upper (V2) and makes category names unique regardless of case here too.
+ALTER TABLE categories ADD COLUMN name_upper VARCHAR(255) GENERATED ALWAYS AS (UPPER(name)) UNIQUE;